@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.build.tasks
+
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.provider.ListProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Generates flat DTO classes with a configurable number of properties for use
+ * in the JMH benchmarks.
+ *
+ * For each size, three variants are generated:
+ *
+ * - `OmittableDto<N>` with `Omittable<String>` fields,
+ * - `OptionalDto<N>` with `Optional<String>` fields and `@JsonInclude(NON_ABSENT)`, and
+ * - `PlainDto<N>` with `String` fields and `@JsonInclude(NON_NULL)`.
+ *
+ * All fields are public and named `p0` to `p<N-1>`.
+ *
+ * Additionally, two creator-style variants with `Omittable<String>` properties
+ * of the same names are generated to compare the different ways of populating
+ * beans:
+ *
+ * - `OmittableSetterDto<N>` with private fields and public setters, and
+ * - `OmittableRecordDto<N>` as a record (only for sizes that do not exceed the
+ *   maximum number of constructor parameters).
+ */
+@CacheableTask
+abstract class GenerateBenchmarkDtos : DefaultTask() {
+
+    @get:Input
+    abstract val packageName: Property<String>
+
+    @get:Input
+    abstract val sizes: ListProperty<Int>
+
+    @get:OutputDirectory
+    abstract val outputDirectory: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        val packageName = packageName.get()
+        val packageDir = outputDirectory.get().asFile.resolve(packageName.replace('.', '/'))
+        outputDirectory.get().asFile.deleteRecursively()
+        packageDir.mkdirs()
+
+        for (size in sizes.get()) {
+            for (variant in Variant.entries) {
+                val className = "${variant.prefix}Dto$size"
+
+                packageDir.resolve("$className.java").writeText(buildString {
+                    appendLine("package $packageName;")
+                    appendLine()
+                    variant.imports.forEach { appendLine("import $it;") }
+                    appendLine()
+                    variant.annotation?.let(::appendLine)
+                    appendLine("public final class $className {")
+                    appendLine()
+
+                    for (i in 0 until size) {
+                        appendLine("    public ${variant.fieldType} p$i${variant.initializer};")
+                    }
+
+                    appendLine()
+                    appendLine("}")
+                })
+            }
+
+            packageDir.resolve("OmittableSetterDto$size.java").writeText(buildString {
+                appendLine("package $packageName;")
+                appendLine()
+                appendLine("import com.osmerion.omittable.Omittable;")
+                appendLine()
+                appendLine("public final class OmittableSetterDto$size {")
+                appendLine()
+
+                for (i in 0 until size) {
+                    appendLine("    private Omittable<String> p$i = Omittable.absent();")
+                }
+
+                for (i in 0 until size) {
+                    appendLine()
+                    appendLine("    public Omittable<String> getP$i() { return this.p$i; }")
+                    appendLine("    public void setP$i(Omittable<String> p$i) { this.p$i = p$i; }")
+                }
+
+                appendLine()
+                appendLine("}")
+            })
+
+            if (size <= MAX_RECORD_COMPONENTS) {
+                packageDir.resolve("OmittableRecordDto$size.java").writeText(buildString {
+                    appendLine("package $packageName;")
+                    appendLine()
+                    appendLine("import com.osmerion.omittable.Omittable;")
+                    appendLine()
+                    appendLine("public record OmittableRecordDto$size(")
+                    appendLine((0 until size).joinToString(separator = ",\n") { "    Omittable<String> p$it" })
+                    appendLine(") {}")
+                })
+            }
+        }
+    }
+
+    private companion object {
+
+        /* The canonical constructor of a record may not take more than 255 parameter slots (including "this"). */
+        const val MAX_RECORD_COMPONENTS = 254
+
+    }
+
+    private enum class Variant(
+        val prefix: String,
+        val fieldType: String,
+        val initializer: String,
+        val annotation: String?,
+        val imports: List<String>
+    ) {
+        OMITTABLE(
+            prefix = "Omittable",
+            fieldType = "Omittable<String>",
+            initializer = " = Omittable.absent()",
+            annotation = null,
+            imports = listOf("com.osmerion.omittable.Omittable")
+        ),
+        OPTIONAL(
+            prefix = "Optional",
+            fieldType = "Optional<String>",
+            initializer = "",
+            annotation = "@JsonInclude(JsonInclude.Include.NON_ABSENT)",
+            imports = listOf("com.fasterxml.jackson.annotation.JsonInclude", "java.util.Optional")
+        ),
+        PLAIN(
+            prefix = "Plain",
+            fieldType = "String",
+            initializer = "",
+            annotation = "@JsonInclude(JsonInclude.Include.NON_NULL)",
+            imports = listOf("com.fasterxml.jackson.annotation.JsonInclude")
+        )
+    }
+
+}
@@ -13,8 +13,11 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+import com.osmerion.build.tasks.GenerateBenchmarkDtos
+
 plugins {
     alias(buildDeps.plugins.gradle.buildconfig)
+    alias(buildDeps.plugins.graalvm.buildtools.native)
     id("com.osmerion.maven-publish-conventions")
     `java-library`
 }
@@ -28,7 +31,79 @@ java {
     withJavadocJar()
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+/*
+ * A small sample that is compiled into a native image to verify the shipped reachability metadata and the
+ * reflection-free code paths. The sample also runs on the JVM as part of the regular "check" task.
+ */
+val nativeSample: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations {
+    named(jmh.implementationConfigurationName) {
+        extendsFrom(configurations.implementation.get())
+    }
+
+    named(nativeSample.implementationConfigurationName) {
+        extendsFrom(configurations.testImplementation.get())
+    }
+
+    named(nativeSample.runtimeOnlyConfigurationName) {
+        extendsFrom(configurations.testRuntimeOnly.get())
+    }
+}
+
 tasks {
+    val generateBenchmarkDtos = register<GenerateBenchmarkDtos>("generateBenchmarkDtos") {
+        packageName = "com.osmerion.omittable.jackson3.benchmarks.dto"
+        sizes = listOf(5, 50, 500)
+        outputDirectory = layout.buildDirectory.dir("generated/sources/benchmarkDtos/java")
+    }
+
+    jmh.java.srcDir(generateBenchmarkDtos)
+
+    /*
+     * Runs the JMH benchmarks. Additional arguments may be passed to JMH via the "jmh.args" project property, e.g.:
+     *
+     *     ./gradlew jmh -Pjmh.args="OmittableSerializationBenchmark -p size=500"
+     *
+     * The GC profiler is always enabled to report allocation rates per operation.
+     */
+    register<JavaExec>("jmh") {
+        description = "Runs the JMH benchmarks."
+        group = "benchmark"
+
+        classpath = jmh.runtimeClasspath
+        mainClass = "org.openjdk.jmh.Main"
+
+        args("-prof", "gc", "-rf", "json", "-rff", layout.buildDirectory.file("reports/jmh/results.json").get().asFile.absolutePath)
+        argumentProviders.add(CommandLineArgumentProvider {
+            providers.gradleProperty("jmh.args").map { it.split(' ').filter(String::isNotBlank) }.getOrElse(emptyList())
+        })
+
+        doFirst {
+            layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs()
+        }
+    }
+
+    val nativeSampleTest = register<Test>("nativeSampleTest") {
+        description = "Runs the native-image sample on the JVM."
+        group = "verification"
+
+        testClassesDirs = nativeSample.output.classesDirs
+        classpath = nativeSample.runtimeClasspath
+    }
+
+    check {
+        dependsOn(nativeSampleTest)
+    }
+
     withType<JavaCompile>().configureEach {
         options.release = 17
     }
@@ -38,6 +113,22 @@ tasks {
     }
 }
 
+graalvmNative {
+    metadataRepository {
+        enabled = true
+    }
+
+    /*
+     * Builds and runs the sample as a native image:
+     *
+     *     ./gradlew nativeSample
+     */
+    registerTestBinary("sample") {
+        usingSourceSet(nativeSample)
+        forTestTask(tasks.named<Test>("nativeSampleTest"))
+    }
+}
+
 publishing {
     publications.register<MavenPublication>("mavenJava") {
         from(components["java"])
@@ -64,11 +155,19 @@ dependencies {
     api(libs.jspecify)
     api(libs.omittable)
 
+    testAnnotationProcessor(project(":omittable-jackson3-processor"))
+
     testImplementation(project.dependencies.platform(buildDeps.junit.bom))
     testImplementation(buildDeps.assertj.core)
+    testImplementation(buildDeps.jackson.dataformat.cbor)
     testImplementation(buildDeps.junit.jupiter.api)
     testImplementation(buildDeps.junit.jupiter.params)
 
     testRuntimeOnly(buildDeps.junit.jupiter.engine)
     testRuntimeOnly(buildDeps.junit.platform.launcher)
+
+    nativeSample.annotationProcessorConfigurationName(project(":omittable-jackson3-processor"))
+
+    jmh.implementationConfigurationName(buildDeps.jmh.core)
+    jmh.annotationProcessorConfigurationName(buildDeps.jmh.generator.annprocess)
 }
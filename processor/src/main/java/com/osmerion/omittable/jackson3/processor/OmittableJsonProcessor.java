@@ -0,0 +1,933 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * An annotation processor that generates reflection-free serializers, deserializers, and tree codecs for classes
+ * annotated with {@code @OmittableJson}.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@SupportedAnnotationTypes(OmittableJsonProcessor.OMITTABLE_JSON)
+public final class OmittableJsonProcessor extends AbstractProcessor {
+
+    static final String OMITTABLE_JSON = "com.osmerion.omittable.jackson3.OmittableJson";
+
+    private static final String OMITTABLE = "com.osmerion.omittable.Omittable";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    /*
+     * Annotations from these packages influence how Jackson (or the module) binds a class. Apart from @JsonIgnore and
+     * @JsonProperty (for renaming), the generated code does not honor them.
+     */
+    private static final List<String> BINDING_ANNOTATION_PACKAGES = List.of(
+        "com.fasterxml.jackson.annotation.",
+        "tools.jackson.databind.annotation.",
+        "com.osmerion.omittable.jackson3."
+    );
+
+    private static final String OMITTABLE_TREE_CODEC = "com.osmerion.omittable.jackson3.OmittableTreeCodec";
+
+    // Keep in sync with OmittableJson.SERIALIZER_SUFFIX, OmittableJson.DESERIALIZER_SUFFIX, and OmittableJson.TREE_CODEC_SUFFIX
+    private static final String SERIALIZER_SUFFIX = "_OmittableJsonSerializer";
+    private static final String DESERIALIZER_SUFFIX = "_OmittableJsonDeserializer";
+    private static final String TREE_CODEC_SUFFIX = "_OmittableJsonTreeCodec";
+
+    private static final String NATIVE_IMAGE_METADATA_ROOT = "META-INF/native-image/com.osmerion.omittable.jackson3.processor/";
+
+    /**
+     * Creates a new processor instance.
+     *
+     * @since   2.1.0
+     */
+    public OmittableJsonProcessor() {}
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!(element instanceof TypeElement type) || !this.validate(type)) continue;
+
+                try {
+                    this.generate(type);
+                } catch (IOException e) {
+                    this.error(type, "Could not generate sources: " + e.getMessage());
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean validate(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS) {
+            this.error(type, "@OmittableJson may only be applied to classes");
+            return false;
+        }
+
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.ABSTRACT)) {
+            this.error(type, "@OmittableJson classes must neither be private nor abstract");
+            return false;
+        }
+
+        if (type.getNestingKind().isNested() && !modifiers.contains(Modifier.STATIC)) {
+            this.error(type, "@OmittableJson classes must not be inner classes");
+            return false;
+        }
+
+        if (!type.getTypeParameters().isEmpty()) {
+            this.error(type, "@OmittableJson classes must not be generic");
+            return false;
+        }
+
+        boolean hasNoArgsConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+            .anyMatch(it -> it.getParameters().isEmpty() && !it.getModifiers().contains(Modifier.PRIVATE));
+
+        if (!hasNoArgsConstructor) {
+            this.error(type, "@OmittableJson classes must have a non-private no-argument constructor");
+            return false;
+        }
+
+        return this.validateAnnotations(type);
+    }
+
+    /*
+     * Rejects classes that use binding annotations the generated code does not honor. The generated classes would
+     * otherwise silently diverge from the reflection-based implementation.
+     */
+    private boolean validateAnnotations(TypeElement type) {
+        boolean isValid = true;
+
+        for (TypeElement t : this.hierarchyOf(type)) {
+            isValid &= this.validateAnnotations(t, false, false);
+
+            for (Element member : t.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.FIELD && member.getKind() != ElementKind.METHOD && member.getKind() != ElementKind.CONSTRUCTOR) continue;
+
+                boolean isAccessor = member.getKind() != ElementKind.CONSTRUCTOR;
+                isValid &= this.validateAnnotations(member, isAccessor, isAccessor && member.getModifiers().contains(Modifier.PUBLIC));
+
+                if (member instanceof ExecutableElement executable) {
+                    for (VariableElement parameter : executable.getParameters()) {
+                        isValid &= this.validateAnnotations(parameter, false, false);
+                    }
+                }
+            }
+        }
+
+        return isValid;
+    }
+
+    private boolean validateAnnotations(Element element, boolean mayIgnore, boolean mayRename) {
+        boolean isValid = true;
+
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (OMITTABLE_JSON.equals(annotationName) || BINDING_ANNOTATION_PACKAGES.stream().noneMatch(annotationName::startsWith)) continue;
+
+            boolean isSupported = (mayIgnore && JSON_IGNORE.equals(annotationName))
+                || (mayRename && JSON_PROPERTY.equals(annotationName) && annotation.getElementValues().keySet().stream().allMatch(it -> it.getSimpleName().contentEquals("value")));
+
+            if (!isSupported) {
+                this.error(element, "@" + annotationName + " is not supported for @OmittableJson classes (only @JsonIgnore, and @JsonProperty(value) on public accessors are)");
+                isValid = false;
+            }
+        }
+
+        return isValid;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        Elements elements = this.processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String flatName = flatNameOf(type);
+        String typeName = type.getQualifiedName().toString();
+
+        Set<String> ignoredNames = new LinkedHashSet<>();
+        Collection<PropertyModel> properties = this.collectProperties(type, packageName, ignoredNames);
+
+        this.writeSource(packageName, flatName + SERIALIZER_SUFFIX, type, this.renderSerializer(packageName, typeName, flatName + SERIALIZER_SUFFIX, properties));
+        this.writeSource(packageName, flatName + DESERIALIZER_SUFFIX, type, this.renderDeserializer(packageName, typeName, flatName + DESERIALIZER_SUFFIX, properties, ignoredNames));
+        this.writeSource(packageName, flatName + TREE_CODEC_SUFFIX, type, this.renderTreeCodec(packageName, typeName, flatName + TREE_CODEC_SUFFIX, properties, ignoredNames));
+        this.writeNativeImageMetadata(packageName, flatName, type);
+    }
+
+    /*
+     * The module looks up the generated classes by name and checks types for the @OmittableJson annotation. Both
+     * require reachability metadata when compiling to a native image.
+     */
+    private void writeNativeImageMetadata(String packageName, String flatName, TypeElement origin) throws IOException {
+        String prefix = packageName.isEmpty() ? "" : (packageName + ".");
+        String binaryName = this.processingEnv.getElementUtils().getBinaryName(origin).toString();
+
+        String metadata = "[\n"
+            + "  {\n"
+            + "    \"name\": \"" + binaryName + "\"\n"
+            + "  },\n"
+            + "  {\n"
+            + "    \"name\": \"" + prefix + flatName + SERIALIZER_SUFFIX + "\",\n"
+            + "    \"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [] } ]\n"
+            + "  },\n"
+            + "  {\n"
+            + "    \"name\": \"" + prefix + flatName + DESERIALIZER_SUFFIX + "\",\n"
+            + "    \"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [] } ]\n"
+            + "  },\n"
+            + "  {\n"
+            + "    \"name\": \"" + prefix + flatName + TREE_CODEC_SUFFIX + "\",\n"
+            + "    \"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [] } ]\n"
+            + "  }\n"
+            + "]\n";
+
+        String path = NATIVE_IMAGE_METADATA_ROOT + prefix + flatName + "/reflect-config.json";
+
+        try (Writer writer = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path, origin).openWriter()) {
+            writer.write(metadata);
+        }
+    }
+
+    private void writeSource(String packageName, String className, TypeElement origin, String source) throws IOException {
+        String qualifiedName = packageName.isEmpty() ? className : (packageName + "." + className);
+
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, origin).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    /*
+     * Property collection
+     */
+
+    /*
+     * Returns the class hierarchy of the given type, starting with the topmost superclass.
+     */
+    private Deque<TypeElement> hierarchyOf(TypeElement type) {
+        Types types = this.processingEnv.getTypeUtils();
+
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement t = type; t != null && !t.getQualifiedName().contentEquals("java.lang.Object"); ) {
+            hierarchy.addFirst(t);
+
+            TypeMirror superclass = t.getSuperclass();
+            t = (superclass.getKind() == TypeKind.DECLARED) ? (TypeElement) types.asElement(superclass) : null;
+        }
+
+        return hierarchy;
+    }
+
+    /**
+     * Collects the properties of the given type.
+     *
+     * @param ignoredNames  receives the JSON names of ignored properties
+     */
+    private Collection<PropertyModel> collectProperties(TypeElement type, String packageName, Set<String> ignoredNames) {
+        Elements elements = this.processingEnv.getElementUtils();
+
+        Map<String, PropertyModel> properties = new LinkedHashMap<>();
+        Set<String> ignored = new HashSet<>();
+
+        for (TypeElement t : this.hierarchyOf(type)) {
+            boolean samePackage = elements.getPackageOf(t).getQualifiedName().contentEquals(packageName);
+
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) continue;
+
+                // Non-public fields are not accessed, but may still cause a property to be ignored.
+                String name = field.getSimpleName().toString();
+                if (this.register(field, name, properties, ignored) || !modifiers.contains(Modifier.PUBLIC)) continue;
+
+                PropertyModel property = properties.computeIfAbsent(name, PropertyModel::new);
+                if (property.readExpression == null) {
+                    property.readExpression = name;
+                    property.readType = field.asType();
+                }
+
+                if (property.writeTarget == null && !modifiers.contains(Modifier.FINAL)) {
+                    property.writeTarget = name;
+                    property.writeIsField = true;
+                    property.writeType = field.asType();
+                }
+            }
+
+            for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) continue;
+
+                String methodName = method.getSimpleName().toString();
+                List<? extends VariableElement> parameters = method.getParameters();
+                TypeMirror returnType = method.getReturnType();
+
+                if (parameters.isEmpty() && returnType.getKind() != TypeKind.VOID && modifiers.contains(Modifier.PUBLIC)) {
+                    String name;
+
+                    if (methodName.startsWith("get") && methodName.length() > 3 && !methodName.equals("getClass")) {
+                        name = manglePropertyName(methodName.substring(3));
+                    } else if (methodName.startsWith("is") && methodName.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN) {
+                        name = manglePropertyName(methodName.substring(2));
+                    } else {
+                        continue;
+                    }
+
+                    if (this.register(method, name, properties, ignored)) continue;
+
+                    PropertyModel property = properties.computeIfAbsent(name, PropertyModel::new);
+                    property.readExpression = methodName + "()";
+                    property.readType = returnType;
+                } else if (parameters.size() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+                    if (!modifiers.contains(Modifier.PUBLIC) && !samePackage) continue;
+
+                    String name = manglePropertyName(methodName.substring(3));
+                    if (this.register(method, name, properties, ignored)) continue;
+
+                    PropertyModel property = properties.computeIfAbsent(name, PropertyModel::new);
+                    property.writeTarget = methodName;
+                    property.writeIsField = false;
+                    property.writeType = parameters.get(0).asType();
+                }
+            }
+        }
+
+        for (String name : ignored) {
+            ignoredNames.add(name);
+
+            PropertyModel property = properties.remove(name);
+            if (property != null) ignoredNames.add(property.jsonName());
+        }
+
+        return properties.values();
+    }
+
+    /**
+     * Registers annotations of the given member for the property with the given (implicit) name.
+     *
+     * @return  whether the property is ignored
+     */
+    private boolean register(Element member, String name, Map<String, PropertyModel> properties, Set<String> ignored) {
+        if (ignored.contains(name)) return true;
+
+        for (AnnotationMirror annotation : member.getAnnotationMirrors()) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+
+            if (JSON_IGNORE.equals(annotationName)) {
+                Object value = annotationValue(annotation, "value");
+
+                if (value == null || Boolean.TRUE.equals(value)) {
+                    ignored.add(name);
+
+                    // Make sure that the property is also ignored by the name it would have been renamed to.
+                    PropertyModel property = properties.computeIfAbsent(name, PropertyModel::new);
+                    for (AnnotationMirror other : member.getAnnotationMirrors()) {
+                        if (((TypeElement) other.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_PROPERTY)
+                            && annotationValue(other, "value") instanceof String explicitName && !explicitName.isEmpty()) {
+                            property.explicitName = explicitName;
+                        }
+                    }
+
+                    return true;
+                }
+            } else if (JSON_PROPERTY.equals(annotationName)) {
+                Object value = annotationValue(annotation, "value");
+
+                if (value instanceof String explicitName && !explicitName.isEmpty()) {
+                    properties.computeIfAbsent(name, PropertyModel::new).explicitName = explicitName;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static @Nullable Object annotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) return entry.getValue().getValue();
+        }
+
+        return null;
+    }
+
+    /*
+     * Code generation
+     */
+
+    private String renderSerializer(String packageName, String typeName, String className, Collection<PropertyModel> properties) {
+        StringBuilder sb = new StringBuilder();
+        renderHeader(sb, packageName, typeName);
+
+        List<PropertyModel> readableProperties = properties.stream()
+            .filter(it -> it.readExpression != null)
+            .toList();
+
+        List<PropertyModel> sortedProperties = sortedByJsonName(readableProperties);
+
+        sb.append("public final class ").append(className).append(" extends tools.jackson.databind.ser.std.StdSerializer<").append(typeName).append("> {\n\n");
+        sb.append("    public ").append(className).append("() {\n");
+        sb.append("        super(").append(typeName).append(".class);\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public void serialize(").append(typeName).append(" bean, tools.jackson.core.JsonGenerator g, tools.jackson.databind.SerializationContext ctxt) throws tools.jackson.core.JacksonException {\n");
+        sb.append("        g.writeStartObject(bean);\n\n");
+        sb.append("        // None of the properties has a view. Thus, they are all excluded if an active view does not include them by default.\n");
+        sb.append("        if (ctxt.getActiveView() != null && !ctxt.isEnabled(tools.jackson.databind.MapperFeature.DEFAULT_VIEW_INCLUSION)) {\n");
+        sb.append("            g.writeEndObject();\n");
+        sb.append("            return;\n");
+        sb.append("        }\n\n");
+
+        // The properties are written in the same order as by Jackson's bean serializer for the active configuration.
+        if (sortedProperties.equals(readableProperties)) {
+            sb.append("        this.serializeProperties(bean, g, ctxt);\n");
+        } else {
+            sb.append("        if (ctxt.isEnabled(tools.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)) {\n");
+            sb.append("            this.serializeSortedProperties(bean, g, ctxt);\n");
+            sb.append("        } else {\n");
+            sb.append("            this.serializeProperties(bean, g, ctxt);\n");
+            sb.append("        }\n");
+        }
+
+        sb.append("\n");
+        sb.append("        g.writeEndObject();\n");
+        sb.append("    }\n");
+
+        this.renderSerializeProperties(sb, typeName, "serializeProperties", readableProperties);
+        if (!sortedProperties.equals(readableProperties)) this.renderSerializeProperties(sb, typeName, "serializeSortedProperties", sortedProperties);
+
+        sb.append("\n");
+        sb.append("}\n");
+
+        return sb.toString();
+    }
+
+    private void renderSerializeProperties(StringBuilder sb, String typeName, String methodName, List<PropertyModel> properties) {
+        sb.append("\n");
+        sb.append("    private void ").append(methodName).append("(").append(typeName).append(" bean, tools.jackson.core.JsonGenerator g, tools.jackson.databind.SerializationContext ctxt) throws tools.jackson.core.JacksonException {\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            TypeMirror type = Objects.requireNonNull(property.readType);
+            String name = javaStringLiteral(property.jsonName());
+
+            if (i > 0) sb.append("\n");
+            sb.append("        {\n");
+
+            if (this.isOmittable(type)) {
+                sb.append("            ").append(OMITTABLE).append("<?> value = bean.").append(property.readExpression).append(";\n\n");
+                sb.append("            if (value != null && value.isPresent()) {\n");
+                sb.append("                g.writeName(").append(name).append(");\n\n");
+                sb.append("                Object contents = value.orElseThrow();\n\n");
+                sb.append("                if (contents == null) {\n");
+                sb.append("                    g.writeNull();\n");
+                sb.append("                } else {\n");
+                sb.append("                    ctxt.writeValue(g, contents);\n");
+                sb.append("                }\n");
+                sb.append("            }\n");
+            } else {
+                sb.append("            g.writeName(").append(name).append(");\n");
+
+                switch (type.getKind()) {
+                    case BOOLEAN -> sb.append("            g.writeBoolean(bean.").append(property.readExpression).append(");\n");
+                    case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> sb.append("            g.writeNumber(bean.").append(property.readExpression).append(");\n");
+                    default -> {
+                        boolean isString = type.getKind() == TypeKind.DECLARED
+                            && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("java.lang.String");
+
+                        sb.append("            Object value = bean.").append(property.readExpression).append(";\n\n");
+                        sb.append("            if (value == null) {\n");
+                        sb.append("                g.writeNull();\n");
+                        sb.append("            } else {\n");
+
+                        if (isString) {
+                            sb.append("                g.writeString((String) value);\n");
+                        } else {
+                            sb.append("                ctxt.writeValue(g, value);\n");
+                        }
+
+                        sb.append("            }\n");
+                    }
+                }
+            }
+
+            sb.append("        }\n");
+        }
+
+        sb.append("    }\n");
+    }
+
+    private String renderDeserializer(String packageName, String typeName, String className, Collection<PropertyModel> properties, Set<String> ignoredNames) {
+        List<PropertyModel> writableProperties = properties.stream()
+            .filter(it -> it.writeTarget != null)
+            .toList();
+
+        StringBuilder sb = new StringBuilder();
+        renderHeader(sb, packageName, typeName);
+
+        sb.append("public final class ").append(className).append(" extends tools.jackson.databind.deser.std.StdDeserializer<").append(typeName).append("> {\n\n");
+
+        for (int i = 0; i < writableProperties.size(); i++) {
+            sb.append("    private tools.jackson.databind.ValueDeserializer<Object> deser").append(i).append(";\n");
+        }
+
+        if (!writableProperties.isEmpty()) sb.append("\n");
+
+        sb.append("    public ").append(className).append("() {\n");
+        sb.append("        super(").append(typeName).append(".class);\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public boolean isCachable() {\n");
+        sb.append("        return true;\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public Boolean supportsUpdate(tools.jackson.databind.DeserializationConfig config) {\n");
+        sb.append("        return Boolean.TRUE;\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public void resolve(tools.jackson.databind.DeserializationContext ctxt) {\n");
+
+        for (int i = 0; i < writableProperties.size(); i++) {
+            PropertyModel property = writableProperties.get(i);
+            TypeMirror valueType = this.valueTypeOf(Objects.requireNonNull(property.writeType));
+
+            sb.append("        this.deser").append(i).append(" = ctxt.findContextualValueDeserializer(ctxt.constructType(").append(this.typeExpression(valueType)).append("), null);\n");
+        }
+
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public ").append(typeName).append(" deserialize(tools.jackson.core.JsonParser p, tools.jackson.databind.DeserializationContext ctxt) throws tools.jackson.core.JacksonException {\n");
+        sb.append("        return this.deserialize(p, ctxt, new ").append(typeName).append("());\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    @SuppressWarnings(\"unchecked\")\n");
+        sb.append("    public ").append(typeName).append(" deserialize(tools.jackson.core.JsonParser p, tools.jackson.databind.DeserializationContext ctxt, ").append(typeName).append(" bean) throws tools.jackson.core.JacksonException {\n");
+        sb.append("        tools.jackson.core.JsonToken t = p.currentToken();\n\n");
+        sb.append("        if (t == tools.jackson.core.JsonToken.START_OBJECT) {\n");
+        sb.append("            t = p.nextToken();\n");
+        sb.append("        } else if (t != tools.jackson.core.JsonToken.PROPERTY_NAME && t != tools.jackson.core.JsonToken.END_OBJECT) {\n");
+        sb.append("            return (").append(typeName).append(") ctxt.handleUnexpectedToken(").append(typeName).append(".class, p);\n");
+        sb.append("        }\n\n");
+        sb.append("        // None of the properties has a view. Thus, they are all excluded if an active view does not include them by default.\n");
+        sb.append("        boolean excluded = ctxt.getActiveView() != null && !ctxt.isEnabled(tools.jackson.databind.MapperFeature.DEFAULT_VIEW_INCLUSION);\n\n");
+        sb.append("        for (; t == tools.jackson.core.JsonToken.PROPERTY_NAME; t = p.nextToken()) {\n");
+        sb.append("            String name = p.currentName();\n");
+        sb.append("            boolean isNull = (p.nextToken() == tools.jackson.core.JsonToken.VALUE_NULL);\n\n");
+        sb.append("            switch (name) {\n");
+
+        Set<String> names = new HashSet<>();
+
+        for (int i = 0; i < writableProperties.size(); i++) {
+            PropertyModel property = writableProperties.get(i);
+            TypeMirror writeType = Objects.requireNonNull(property.writeType);
+            TypeMirror valueType = this.valueTypeOf(writeType);
+            names.add(property.jsonName());
+
+            String deser = "this.deser" + i;
+            String value = "(" + this.castTypeOf(valueType) + ") (isNull ? " + deser + ".getNullValue(ctxt) : " + deser + ".deserialize(p, ctxt))";
+            if (this.isOmittable(writeType)) value = OMITTABLE + ".of(" + value + ")";
+
+            sb.append("                case ").append(javaStringLiteral(property.jsonName())).append(" -> {\n");
+            sb.append("                    if (excluded) {\n");
+            sb.append("                        p.skipChildren();\n");
+            sb.append("                    } else {\n");
+
+            if (property.writeIsField) {
+                sb.append("                        bean.").append(property.writeTarget).append(" = ").append(value).append(";\n");
+            } else {
+                sb.append("                        bean.").append(property.writeTarget).append("(").append(value).append(");\n");
+            }
+
+            sb.append("                    }\n");
+            sb.append("                }\n");
+        }
+
+        // Ignored properties are skipped quietly instead of being reported as unknown.
+        for (String name : ignoredNames) {
+            if (!names.add(name)) continue;
+            sb.append("                case ").append(javaStringLiteral(name)).append(" -> p.skipChildren();\n");
+        }
+
+        sb.append("                default -> ctxt.handleUnknownProperty(p, this, bean, name);\n");
+        sb.append("            }\n");
+        sb.append("        }\n\n");
+        sb.append("        return bean;\n");
+        sb.append("    }\n\n");
+        sb.append("}\n");
+
+        return sb.toString();
+    }
+
+    private String renderTreeCodec(String packageName, String typeName, String className, Collection<PropertyModel> properties, Set<String> ignoredNames) {
+        StringBuilder sb = new StringBuilder();
+        renderHeader(sb, packageName, typeName);
+
+        List<PropertyModel> readableProperties = properties.stream()
+            .filter(it -> it.readExpression != null)
+            .toList();
+
+        List<PropertyModel> sortedProperties = sortedByJsonName(readableProperties);
+
+        sb.append("public final class ").append(className).append(" implements ").append(OMITTABLE_TREE_CODEC).append("<").append(typeName).append("> {\n\n");
+        sb.append("    public ").append(className).append("() {}\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    public tools.jackson.databind.node.ObjectNode toTree(").append(typeName).append(" bean, tools.jackson.databind.ObjectMapper mapper) {\n");
+        sb.append("        tools.jackson.databind.node.ObjectNode node = mapper.createObjectNode();\n\n");
+
+        // The properties are added in the same order as they are serialized by Jackson for the active configuration.
+        if (sortedProperties.equals(readableProperties)) {
+            sb.append("        putProperties(bean, node, mapper);\n");
+        } else {
+            sb.append("        if (mapper.isEnabled(tools.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)) {\n");
+            sb.append("            putSortedProperties(bean, node, mapper);\n");
+            sb.append("        } else {\n");
+            sb.append("            putProperties(bean, node, mapper);\n");
+            sb.append("        }\n");
+        }
+
+        sb.append("\n");
+        sb.append("        return node;\n");
+        sb.append("    }\n\n");
+
+        sb.append("    @Override\n");
+        sb.append("    @SuppressWarnings(\"unchecked\")\n");
+        sb.append("    public ").append(typeName).append(" fromTree(tools.jackson.databind.node.ObjectNode node, tools.jackson.databind.ObjectMapper mapper) {\n");
+        sb.append("        ").append(typeName).append(" bean = new ").append(typeName).append("();\n");
+        sb.append("        int matched = 0;\n\n");
+        sb.append("        tools.jackson.databind.JsonNode child;\n");
+
+        for (PropertyModel property : properties) {
+            if (property.writeTarget == null) continue;
+
+            TypeMirror writeType = Objects.requireNonNull(property.writeType);
+            TypeMirror valueType = this.valueTypeOf(writeType);
+
+            String value = this.treeReadExpression(valueType);
+            if (!valueType.getKind().isPrimitive()) value = "(" + this.castTypeOf(valueType) + ") (child.isNull() ? null : " + value + ")";
+            if (this.isOmittable(writeType)) value = OMITTABLE + ".of(" + value + ")";
+
+            sb.append("\n");
+            sb.append("        child = node.get(").append(javaStringLiteral(property.jsonName())).append(");\n\n");
+            sb.append("        if (child != null) {\n");
+            sb.append("            matched++;\n");
+
+            if (property.writeIsField) {
+                sb.append("            bean.").append(property.writeTarget).append(" = ").append(value).append(";\n");
+            } else {
+                sb.append("            bean.").append(property.writeTarget).append("(").append(value).append(");\n");
+            }
+
+            sb.append("        }\n");
+        }
+
+        Set<String> names = new HashSet<>();
+        for (PropertyModel property : properties) {
+            if (property.writeTarget != null) names.add(property.jsonName());
+        }
+
+        // Ignored properties are skipped quietly instead of being treated as unknown.
+        for (String name : ignoredNames) {
+            if (names.contains(name)) continue;
+            sb.append("\n");
+            sb.append("        if (node.has(").append(javaStringLiteral(name)).append(")) matched++;\n");
+        }
+
+        sb.append("\n");
+        sb.append("        // Defer to the mapper to handle unknown properties consistently.\n");
+        sb.append("        if (matched != node.size()) return mapper.treeToValue(node, ").append(typeName).append(".class);\n\n");
+        sb.append("        return bean;\n");
+        sb.append("    }\n");
+
+        this.renderPutProperties(sb, typeName, "putProperties", readableProperties);
+        if (!sortedProperties.equals(readableProperties)) this.renderPutProperties(sb, typeName, "putSortedProperties", sortedProperties);
+
+        sb.append("\n");
+        sb.append("}\n");
+
+        return sb.toString();
+    }
+
+    private void renderPutProperties(StringBuilder sb, String typeName, String methodName, List<PropertyModel> properties) {
+        sb.append("\n");
+        sb.append("    private static void ").append(methodName).append("(").append(typeName).append(" bean, tools.jackson.databind.node.ObjectNode node, tools.jackson.databind.ObjectMapper mapper) {\n");
+
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            TypeMirror type = Objects.requireNonNull(property.readType);
+            String name = javaStringLiteral(property.jsonName());
+
+            if (i > 0) sb.append("\n");
+            sb.append("        {\n");
+
+            if (this.isOmittable(type)) {
+                sb.append("            ").append(OMITTABLE).append("<?> value = bean.").append(property.readExpression).append(";\n\n");
+                sb.append("            if (value != null && value.isPresent()) {\n");
+                sb.append("                Object contents = value.orElseThrow();\n\n");
+                sb.append("                if (contents == null) {\n");
+                sb.append("                    node.putNull(").append(name).append(");\n");
+                sb.append("                } else {\n");
+                sb.append("                    ").append(this.treePutStatement(name, "contents", this.valueTypeOf(type))).append("\n");
+                sb.append("                }\n");
+                sb.append("            }\n");
+            } else if (type.getKind().isPrimitive() && type.getKind() != TypeKind.CHAR) {
+                sb.append("            node.put(").append(name).append(", bean.").append(property.readExpression).append(");\n");
+            } else {
+                sb.append("            Object value = bean.").append(property.readExpression).append(";\n\n");
+                sb.append("            if (value == null) {\n");
+                sb.append("                node.putNull(").append(name).append(");\n");
+                sb.append("            } else {\n");
+                sb.append("                ").append(this.treePutStatement(name, "value", type)).append("\n");
+                sb.append("            }\n");
+            }
+
+            sb.append("        }\n");
+        }
+
+        sb.append("    }\n");
+    }
+
+    /*
+     * Returns the given properties in the order in which they are serialized if properties are sorted alphabetically.
+     */
+    private static List<PropertyModel> sortedByJsonName(List<PropertyModel> properties) {
+        return properties.stream()
+            .sorted(Comparator.comparing(PropertyModel::jsonName))
+            .toList();
+    }
+
+    /**
+     * Returns a statement that adds the given non-null value of the given type to the node.
+     */
+    private String treePutStatement(String name, String value, TypeMirror type) {
+        String simpleType = this.simpleValueTypeOf(type);
+
+        return (simpleType != null)
+            ? "node.put(" + name + ", (" + simpleType + ") " + value + ");"
+            : "node.set(" + name + ", mapper.valueToTree(" + value + "));";
+    }
+
+    /**
+     * Returns an expression that reads a value of the given type from the node in {@code child}. Nodes that can be
+     * converted directly are read directly, any other nodes are converted by the mapper.
+     */
+    private String treeReadExpression(TypeMirror type) {
+        String fallback = "mapper.treeToValue(child, " + (type.getKind().isPrimitive() || (type instanceof DeclaredType declaredType && declaredType.getTypeArguments().isEmpty())
+            ? this.typeExpression(type)
+            : "mapper.constructType(" + this.typeExpression(type) + ")") + ")";
+
+        String simpleType = this.simpleValueTypeOf(type);
+        if (simpleType == null) return fallback;
+
+        return switch (simpleType) {
+            case "java.lang.String" -> "child.isString() ? child.stringValue() : " + fallback;
+            case "java.lang.Integer" -> "child.isInt() ? java.lang.Integer.valueOf(child.intValue()) : " + fallback;
+            case "java.lang.Long" -> "(child.isInt() || child.isLong()) ? java.lang.Long.valueOf(child.longValue()) : " + fallback;
+            case "java.lang.Double" -> "child.isNumber() ? java.lang.Double.valueOf(child.doubleValue()) : " + fallback;
+            case "java.lang.Boolean" -> "child.isBoolean() ? java.lang.Boolean.valueOf(child.booleanValue()) : " + fallback;
+            default -> throw new IllegalStateException(simpleType);
+        };
+    }
+
+    /**
+     * Returns the (boxed) name of the given type if values of the type can be converted from and to nodes directly, or
+     * {@code null} otherwise.
+     */
+    private @Nullable String simpleValueTypeOf(TypeMirror type) {
+        String name = switch (type.getKind()) {
+            case BOOLEAN, INT, LONG, DOUBLE -> this.castTypeOf(type);
+            case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            default -> null;
+        };
+
+        if (name == null) return null;
+
+        return switch (name) {
+            case "java.lang.String", "java.lang.Integer", "java.lang.Long", "java.lang.Double", "java.lang.Boolean" -> name;
+            default -> null;
+        };
+    }
+
+    private static void renderHeader(StringBuilder sb, String packageName, String typeName) {
+        if (!packageName.isEmpty()) sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("// Generated by ").append(OmittableJsonProcessor.class.getName()).append(" for ").append(typeName).append(". Do not edit.\n");
+    }
+
+    /**
+     * Returns the type that is read from JSON for a property of the given type. For omittables, this is the type of
+     * the contents.
+     */
+    private TypeMirror valueTypeOf(TypeMirror type) {
+        if (!this.isOmittable(type)) return type;
+
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        if (typeArguments.isEmpty()) return this.objectType();
+
+        TypeMirror contentType = typeArguments.get(0);
+
+        if (contentType instanceof WildcardType wildcard) {
+            TypeMirror extendsBound = wildcard.getExtendsBound();
+            return (extendsBound != null) ? extendsBound : this.objectType();
+        }
+
+        return contentType;
+    }
+
+    /**
+     * Returns an expression that evaluates to a {@code java.lang.reflect.Type} representing the given type.
+     */
+    private String typeExpression(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT) + ".class";
+        }
+
+        if (type instanceof DeclaredType declaredType && declaredType.getTypeArguments().isEmpty()) {
+            return ((TypeElement) declaredType.asElement()).getQualifiedName() + ".class";
+        }
+
+        return "new tools.jackson.core.type.TypeReference<" + type + ">() {}.getType()";
+    }
+
+    private String castTypeOf(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+
+        return type.toString();
+    }
+
+    private boolean isOmittable(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+            && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(OMITTABLE);
+    }
+
+    private TypeMirror objectType() {
+        return this.processingEnv.getElementUtils().getTypeElement("java.lang.Object").asType();
+    }
+
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static String flatNameOf(TypeElement type) {
+        StringBuilder sb = new StringBuilder(type.getSimpleName());
+
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement t; enclosing = t.getEnclosingElement()) {
+            sb.insert(0, '_').insert(0, t.getSimpleName());
+        }
+
+        return sb.toString();
+    }
+
+    /*
+     * Mirrors Jackson's default name mangling for accessors: All leading upper-case characters are converted to
+     * lower-case (e.g. "getURL" becomes "url").
+     */
+    private static String manglePropertyName(String basename) {
+        int length = basename.length();
+        StringBuilder sb = null;
+
+        for (int i = 0; i < length; i++) {
+            char upper = basename.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) break;
+
+            if (sb == null) sb = new StringBuilder(basename);
+            sb.setCharAt(i, lower);
+        }
+
+        return (sb == null) ? basename : sb.toString();
+    }
+
+    private static String javaStringLiteral(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+
+        return sb.append('"').toString();
+    }
+
+    private static final class PropertyModel {
+
+        final String name;
+
+        @Nullable String explicitName;
+
+        @Nullable String readExpression;
+        @Nullable TypeMirror readType;
+
+        @Nullable String writeTarget;
+        boolean writeIsField;
+        @Nullable TypeMirror writeType;
+
+        PropertyModel(String name) {
+            this.name = name;
+        }
+
+        String jsonName() {
+            return (this.explicitName != null) ? this.explicitName : this.name;
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import com.osmerion.omittable.jackson3.processor.OmittableJsonProcessor;
+import org.jspecify.annotations.NullMarked;
+
+import javax.annotation.processing.Processor;
+
+/** Defines an annotation processor that generates reflection-free serializers and deserializers for Omittable DTOs. */
+@NullMarked
+module com.osmerion.omittable.jackson3.processor {
+
+    requires java.compiler;
+    requires static org.jspecify;
+
+    provides Processor with OmittableJsonProcessor;
+
+}
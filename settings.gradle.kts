@@ -27,6 +27,9 @@ plugins {
 
 rootProject.name = "omittable-jackson3"
 
+include(":omittable-jackson3-processor")
+project(":omittable-jackson3-processor").projectDir = file("processor")
+
 dependencyResolutionManagement {
     repositoriesMode = RepositoriesMode.FAIL_ON_PROJECT_REPOS
 
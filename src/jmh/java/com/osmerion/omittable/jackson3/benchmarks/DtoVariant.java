@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.benchmarks;
+
+/** The kind of DTO used by a benchmark. */
+public enum DtoVariant {
+
+    /** A DTO with {@code Omittable<String>} properties. */
+    OMITTABLE("Omittable"),
+
+    /** A DTO with {@code Optional<String>} properties that are excluded via {@code @JsonInclude(NON_ABSENT)}. */
+    OPTIONAL("Optional"),
+
+    /** A DTO with plain {@code String} properties that are excluded via {@code @JsonInclude(NON_NULL)}. */
+    PLAIN("Plain");
+
+    private final String prefix;
+
+    DtoVariant(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Returns the generated DTO class of this variant with the given number of properties.
+     *
+     * @param size  the number of properties
+     *
+     * @return  the generated DTO class
+     */
+    public Class<?> dtoClass(int size) throws ClassNotFoundException {
+        return Class.forName("com.osmerion.omittable.jackson3.benchmarks.dto." + this.prefix + "Dto" + size);
+    }
+
+}
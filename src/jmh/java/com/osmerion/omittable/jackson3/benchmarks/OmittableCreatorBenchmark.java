@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.benchmarks;
+
+import com.osmerion.omittable.jackson3.OmittableModule;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the deserialization throughput of records with {@code Omittable} components against beans that are
+ * populated through fields and setters.
+ *
+ * <p>This primarily exercises the creator path for missing {@code Omittable} parameters. Records are only generated
+ * for sizes that fit into a constructor.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittableCreatorBenchmark {
+
+    /** The way a DTO is populated. */
+    public enum Style {
+
+        /** Public fields. */
+        FIELDS("OmittableDto"),
+
+        /** Private fields with public setters. */
+        SETTERS("OmittableSetterDto"),
+
+        /** Record components. */
+        RECORD("OmittableRecordDto");
+
+        private final String prefix;
+
+        Style(String prefix) {
+            this.prefix = prefix;
+        }
+
+        Class<?> dtoClass(int size) throws ClassNotFoundException {
+            return Class.forName("com.osmerion.omittable.jackson3.benchmarks.dto." + this.prefix + size);
+        }
+
+    }
+
+    @Param({ "5", "50" })
+    public int size;
+
+    @Param({ "DENSE", "SPARSE", "MIXED" })
+    public PayloadShape shape;
+
+    @Param({ "FIELDS", "SETTERS", "RECORD" })
+    public Style style;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .build();
+
+        this.reader = mapper.readerFor(this.style.dtoClass(this.size));
+
+        // All styles share the same property names, so the payload is rendered from the field-based DTO.
+        Object bean = this.shape.populate(DtoVariant.OMITTABLE.dtoClass(this.size));
+        this.json = mapper.writeValueAsBytes(bean);
+    }
+
+    @Benchmark
+    public Object deserializeBean() {
+        return this.reader.readValue(this.json);
+    }
+
+}
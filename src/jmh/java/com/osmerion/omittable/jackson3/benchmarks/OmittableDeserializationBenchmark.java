@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.benchmarks;
+
+import com.osmerion.omittable.jackson3.OmittableModule;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the deserialization throughput of beans with {@code Omittable} properties against the plain and
+ * {@code Optional} baselines.
+ *
+ * <p>This primarily exercises {@code OmittableDeserializer}.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittableDeserializationBenchmark {
+
+    @Param({ "5", "50", "500" })
+    public int size;
+
+    @Param({ "DENSE", "SPARSE", "MIXED" })
+    public PayloadShape shape;
+
+    @Param({ "OMITTABLE", "OPTIONAL", "PLAIN" })
+    public DtoVariant variant;
+
+    private ObjectReader reader;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .build();
+
+        Class<?> dtoClass = this.variant.dtoClass(this.size);
+        this.reader = mapper.readerFor(dtoClass);
+
+        /*
+         * The payload is always rendered from the Omittable variant so that all variants read the same document.
+         * This way, explicit nulls are part of the input for every variant.
+         */
+        Object bean = this.shape.populate(DtoVariant.OMITTABLE.dtoClass(this.size));
+        this.json = mapper.writeValueAsBytes(bean);
+    }
+
+    @Benchmark
+    public Object deserializeBean() {
+        return this.reader.readValue(this.json);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.benchmarks;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittableModule;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization throughput of beans with {@code Omittable} properties against the plain and
+ * {@code Optional} baselines.
+ *
+ * <p>This primarily exercises {@code OmittableBeanPropertyWriter.serializeAsProperty} and
+ * {@code OmittableSerializer}.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OmittableSerializationBenchmark {
+
+    @Param({ "5", "50", "500" })
+    public int size;
+
+    @Param({ "DENSE", "SPARSE", "MIXED" })
+    public PayloadShape shape;
+
+    @Param({ "OMITTABLE", "OPTIONAL", "PLAIN" })
+    public DtoVariant variant;
+
+    private ObjectWriter writer;
+    private ObjectMapper mapper;
+
+    private Object bean;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        this.mapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .build();
+
+        Class<?> dtoClass = this.variant.dtoClass(this.size);
+        this.writer = this.mapper.writerFor(dtoClass);
+        this.bean = this.shape.populate(dtoClass);
+    }
+
+    @Benchmark
+    public byte[] serializeBean() {
+        return this.writer.writeValueAsBytes(this.bean);
+    }
+
+    @Benchmark
+    public byte[] serializeRootOmittable() {
+        return this.mapper.writeValueAsBytes(Omittable.of("value"));
+    }
+
+}
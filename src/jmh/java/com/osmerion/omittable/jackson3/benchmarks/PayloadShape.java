@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.benchmarks;
+
+import com.osmerion.omittable.Omittable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * The shape of the benchmark payloads.
+ *
+ * <p>Each property is put into one of three states: absent, present, or present with an explicit {@code null} value.
+ * For the baseline variants, absent is modeled as a {@code null} field and present-null as {@code null} (plain) or
+ * {@link Optional#empty()} (optional).</p>
+ */
+public enum PayloadShape {
+
+    /** All properties are present. */
+    DENSE {
+        @Override
+        State stateOf(int index) {
+            return State.PRESENT;
+        }
+    },
+
+    /** Every tenth property is present, all others are absent. */
+    SPARSE {
+        @Override
+        State stateOf(int index) {
+            return (index % 10 == 0) ? State.PRESENT : State.ABSENT;
+        }
+    },
+
+    /** Properties cycle through absent, present, and present-null. */
+    MIXED {
+        @Override
+        State stateOf(int index) {
+            return switch (index % 3) {
+                case 0 -> State.ABSENT;
+                case 1 -> State.PRESENT;
+                default -> State.NULL;
+            };
+        }
+    };
+
+    abstract State stateOf(int index);
+
+    /**
+     * Creates a new instance of the given generated DTO class and populates its properties according to this shape.
+     *
+     * @param type  the generated DTO class
+     *
+     * @return  the populated instance
+     */
+    public Object populate(Class<?> type) throws ReflectiveOperationException {
+        Object instance = type.getConstructor().newInstance();
+
+        for (Field field : type.getFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+
+            int i = Integer.parseInt(field.getName().substring(1));
+            State state = this.stateOf(i);
+            String value = "value" + i;
+
+            Class<?> fieldType = field.getType();
+            Object fieldValue;
+
+            if (fieldType == Omittable.class) {
+                fieldValue = switch (state) {
+                    case ABSENT -> Omittable.absent();
+                    case PRESENT -> Omittable.of(value);
+                    case NULL -> Omittable.of(null);
+                };
+            } else if (fieldType == Optional.class) {
+                fieldValue = switch (state) {
+                    case ABSENT -> null;
+                    case PRESENT -> Optional.of(value);
+                    case NULL -> Optional.empty();
+                };
+            } else {
+                fieldValue = (state == State.PRESENT) ? value : null;
+            }
+
+            field.set(instance, fieldValue);
+        }
+
+        return instance;
+    }
+
+    enum State {
+        ABSENT,
+        PRESENT,
+        NULL
+    }
+
+}
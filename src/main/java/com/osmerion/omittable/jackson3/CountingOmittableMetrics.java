@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link OmittableMetrics} implementation that counts events using {@link LongAdder striped counters}.
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class CountingOmittableMetrics implements OmittableMetrics {
+
+    private final LongAdder propertiesWritten = new LongAdder();
+    private final LongAdder propertiesSkipped = new LongAdder();
+    private final LongAdder nullsWritten = new LongAdder();
+    private final LongAdder deserializedPresent = new LongAdder();
+    private final LongAdder deserializedAbsentCreatorParameters = new LongAdder();
+    private final LongAdder deserializedNull = new LongAdder();
+    private final LongAdder accessorGenerationFailures = new LongAdder();
+
+    private final Map<Class<?>, SerializerConstructions> serializerConstructions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance with all counters set to zero.
+     *
+     * @since   2.1.0
+     */
+    public CountingOmittableMetrics() {}
+
+    @Override
+    public void propertyWritten() {
+        this.propertiesWritten.increment();
+    }
+
+    @Override
+    public void propertySkipped() {
+        this.propertiesSkipped.increment();
+    }
+
+    @Override
+    public void nullWritten() {
+        this.nullsWritten.increment();
+    }
+
+    @Override
+    public void deserializedPresent() {
+        this.deserializedPresent.increment();
+    }
+
+    @Override
+    public void deserializedAbsentCreatorParameter() {
+        this.deserializedAbsentCreatorParameters.increment();
+    }
+
+    @Override
+    public void deserializedNull() {
+        this.deserializedNull.increment();
+    }
+
+    @Override
+    public void serializerConstructed(Class<?> beanType, long nanos) {
+        SerializerConstructions constructions = this.serializerConstructions.computeIfAbsent(beanType, it -> new SerializerConstructions());
+        constructions.count.increment();
+        constructions.nanos.add(nanos);
+    }
+
+    @Override
+    public void accessorGenerationFailed(Method getter) {
+        this.accessorGenerationFailures.increment();
+    }
+
+    /**
+     * Returns the number of written {@code Omittable} properties with a present, non-{@code null} value.
+     *
+     * @return  the number of written {@code Omittable} properties with a present, non-{@code null} value
+     *
+     * @since   2.1.0
+     */
+    public long getPropertiesWritten() {
+        return this.propertiesWritten.sum();
+    }
+
+    /**
+     * Returns the number of {@code Omittable} properties that were skipped because they were absent.
+     *
+     * @return  the number of {@code Omittable} properties that were skipped because they were absent
+     *
+     * @since   2.1.0
+     */
+    public long getPropertiesSkipped() {
+        return this.propertiesSkipped.sum();
+    }
+
+    /**
+     * Returns the number of written {@code Omittable} properties with a present {@code null} value.
+     *
+     * @return  the number of written {@code Omittable} properties with a present {@code null} value
+     *
+     * @since   2.1.0
+     */
+    public long getNullsWritten() {
+        return this.nullsWritten.sum();
+    }
+
+    /**
+     * Returns the number of deserialized present, non-{@code null} omittables.
+     *
+     * @return  the number of deserialized present, non-{@code null} omittables
+     *
+     * @since   2.1.0
+     */
+    public long getDeserializedPresent() {
+        return this.deserializedPresent.sum();
+    }
+
+    /**
+     * Returns the number of absent omittables that were passed to creators.
+     *
+     * @return  the number of absent omittables that were passed to creators
+     *
+     * @see OmittableMetrics#deserializedAbsentCreatorParameter()
+     *
+     * @since   2.1.0
+     */
+    public long getDeserializedAbsentCreatorParameters() {
+        return this.deserializedAbsentCreatorParameters.sum();
+    }
+
+    /**
+     * Returns the number of deserialized present {@code null} omittables.
+     *
+     * @return  the number of deserialized present {@code null} omittables
+     *
+     * @since   2.1.0
+     */
+    public long getDeserializedNull() {
+        return this.deserializedNull.sum();
+    }
+
+    /**
+     * Returns the number of getters for which no accessor could be generated.
+     *
+     * @return  the number of getters for which no accessor could be generated
+     *
+     * @see OmittableMetrics#accessorGenerationFailed(Method)
+     *
+     * @since   2.1.0
+     */
+    public long getAccessorGenerationFailures() {
+        return this.accessorGenerationFailures.sum();
+    }
+
+    /**
+     * Returns the number of serializers constructed for the given bean type.
+     *
+     * @param beanType  the type of the bean
+     *
+     * @return  the number of serializers constructed for the given bean type
+     *
+     * @since   2.1.0
+     */
+    public long getSerializerConstructions(Class<?> beanType) {
+        SerializerConstructions constructions = this.serializerConstructions.get(beanType);
+        return (constructions != null) ? constructions.count.sum() : 0L;
+    }
+
+    /**
+     * Returns the total time spent constructing serializers for the given bean type in nanoseconds.
+     *
+     * @param beanType  the type of the bean
+     *
+     * @return  the total time spent constructing serializers for the given bean type in nanoseconds
+     *
+     * @since   2.1.0
+     */
+    public long getSerializerConstructionNanos(Class<?> beanType) {
+        SerializerConstructions constructions = this.serializerConstructions.get(beanType);
+        return (constructions != null) ? constructions.nanos.sum() : 0L;
+    }
+
+    private static final class SerializerConstructions {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.util.TokenBuffer;
+
+/**
+ * A value whose deserialization is deferred until it is first accessed.
+ *
+ * <p>When a property is declared as {@code Omittable<DeferredValue<T>>}, a present value is captured as a buffer of
+ * raw tokens instead of being bound to {@code T}. This makes it cheap to check whether a large value is present, and to
+ * forward it: If a deferred value is serialized before it has been {@link #bind(ObjectMapper) bound}, the captured
+ * tokens are copied to the output as they are.</p>
+ *
+ * <pre>{@code
+ * public class GatewayDto {
+ *     public Omittable<DeferredValue<Payload>> payload = Omittable.absent();
+ * }
+ *
+ * if (dto.payload.isPresent()) {
+ *     Payload payload = dto.payload.orElseThrow().bind(mapper);
+ * }
+ * }</pre>
+ *
+ * <p>Present {@code null} values are not deferred and are deserialized as {@code Omittable.of(null)}.</p>
+ *
+ * <p>Instances of this class are thread-safe.</p>
+ *
+ * @param <T>   the type of the value
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class DeferredValue<T> {
+
+    /**
+     * Returns a deferred value that is already bound to the given value.
+     *
+     * <p>Since the type of the value is not known, the value is serialized based on its runtime type. Use
+     * {@link #of(JavaType, Object)} to serialize the value as a specific type instead.</p>
+     *
+     * @param <T>   the type of the value
+     * @param value the value
+     *
+     * @return  a bound deferred value
+     *
+     * @since   2.1.0
+     */
+    public static <T> DeferredValue<T> of(@Nullable T value) {
+        return new DeferredValue<>(null, null, value);
+    }
+
+    /**
+     * Returns a deferred value of the given type that is already bound to the given value.
+     *
+     * @param <T>   the type of the value
+     * @param type  the type of the value
+     * @param value the value
+     *
+     * @return  a bound deferred value
+     *
+     * @since   2.1.0
+     */
+    public static <T> DeferredValue<T> of(JavaType type, @Nullable T value) {
+        return new DeferredValue<>(type, null, value);
+    }
+
+    /**
+     * Returns a deferred value that binds the given tokens to the given type when it is first accessed.
+     *
+     * <p>The given buffer must not be modified after calling this method.</p>
+     *
+     * @param <T>       the type of the value
+     * @param type      the type to bind the tokens to
+     * @param tokens    the tokens of the value
+     *
+     * @return  an unbound deferred value
+     *
+     * @since   2.1.0
+     */
+    public static <T> DeferredValue<T> ofTokens(JavaType type, TokenBuffer tokens) {
+        return new DeferredValue<>(type, tokens, null);
+    }
+
+    private final @Nullable JavaType type;
+    private @Nullable TokenBuffer tokens;
+    private @Nullable T value;
+
+    private DeferredValue(@Nullable JavaType type, @Nullable TokenBuffer tokens, @Nullable T value) {
+        this.type = type;
+        this.tokens = tokens;
+        this.value = value;
+    }
+
+    /**
+     * Returns the value, binding the captured tokens using the given mapper if this is the first access.
+     *
+     * @param mapper    the mapper to use for binding
+     *
+     * @return  the value
+     *
+     * @throws JacksonException if the captured tokens cannot be bound
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized @Nullable T bind(ObjectMapper mapper) {
+        TokenBuffer tokens = this.tokens;
+
+        if (tokens != null) {
+            assert this.type != null;
+
+            try (JsonParser p = tokens.asParser(ObjectReadContext.empty())) {
+                this.value = (T) mapper.readValue(p, this.type);
+            }
+
+            this.tokens = null;
+        }
+
+        return this.value;
+    }
+
+    /**
+     * Returns whether the value has been bound.
+     *
+     * <p>Deferred values that were created using {@link #of(Object)} are always bound.</p>
+     *
+     * @return  whether the value has been bound
+     *
+     * @since   2.1.0
+     */
+    public synchronized boolean isBound() {
+        return this.tokens == null;
+    }
+
+    /**
+     * Writes this value to the given generator.
+     *
+     * <p>If the value has not been bound yet, the captured tokens are copied to the generator. Otherwise, the bound
+     * value is serialized as the type it was bound to (or, for values created using {@link #of(Object)}, based on its
+     * runtime type).</p>
+     *
+     * @param g     the generator to write to
+     * @param ctxt  the context to use for serializing a bound value
+     *
+     * @throws JacksonException if the value cannot be written
+     *
+     * @since   2.1.0
+     */
+    public void writeTo(JsonGenerator g, SerializationContext ctxt) {
+        TokenBuffer tokens;
+        @Nullable T value;
+
+        synchronized (this) {
+            tokens = this.tokens;
+            value = this.value;
+        }
+
+        if (tokens != null) {
+            tokens.serialize(g);
+        } else if (value == null) {
+            ctxt.defaultSerializeNullValue(g);
+        } else if (this.type != null) {
+            ctxt.findTypedValueSerializer(this.type, true).serialize(value, g, ctxt);
+        } else {
+            ctxt.writeValue(g, value);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return (this.tokens != null) ? "DeferredValue[unbound]" : ("DeferredValue[" + this.value + "]");
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the {@link OmittableInclusion} of the {@code Omittable} properties of a type, or of a single property.
+ *
+ * <p>When applied to a type, the settings apply to all {@code Omittable} properties of the type. Settings on a
+ * property take precedence over those on its type. Settings configured on the {@link OmittableModule} for a specific
+ * type take precedence over settings on that type.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@Target({ ElementType.TYPE, ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonOmittableInclusion {
+
+    /**
+     * How present {@code null} values are handled.
+     *
+     * @return  how present {@code null} values are handled
+     *
+     * @since   2.1.0
+     */
+    OmittableInclusion.PresentNull presentNull() default OmittableInclusion.PresentNull.DEFAULT;
+
+    /**
+     * How {@code null} references to an {@code Omittable} are handled.
+     *
+     * @return  how {@code null} references are handled
+     *
+     * @since   2.1.0
+     */
+    OmittableInclusion.RawNull rawNull() default OmittableInclusion.RawNull.DEFAULT;
+
+}
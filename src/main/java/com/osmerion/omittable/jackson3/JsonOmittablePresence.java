@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the properties of an {@link OmittablePresence} bean that are tracked in its presence bit set.
+ *
+ * <p>The bit index of a property is its index in {@link #value()}. Properties are identified by their external (i.e.
+ * serialized) name.</p>
+ *
+ * <p>Presence tracking is not applied when serializing with an active view, or to beans with {@code @JsonFilter} or
+ * {@code @JsonAnyGetter}. Such beans are serialized by the default implementation instead, so that filters are still
+ * applied. Non-tracked properties are written before tracked ones.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonOmittablePresence {
+
+    /**
+     * The names of the tracked properties, in bit index order.
+     *
+     * @return  the names of the tracked properties
+     *
+     * @since   2.1.0
+     */
+    String[] value();
+
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Serializes large lists of objects with {@link Omittable} properties to a single JSON array in parallel.
+ *
+ * <p>The list is split into chunks that are serialized concurrently by the given executor. The rendered chunks are
+ * then written to the output in order. To bound memory usage, only a limited number of chunks is rendered ahead of the
+ * output. The buffers the chunks are rendered into are pooled per batch writer (instead of per thread), so that they
+ * are also reused when rendering on virtual threads.</p>
+ *
+ * <p>Each element is serialized like a root value of the writer (so that a root type configured via
+ * {@code ObjectMapper.writerFor} applies to the elements), and the output is equivalent to serializing the list as a
+ * whole except for whitespace when pretty-printing is enabled. Serializers are shared between the worker threads just
+ * like they are for any other concurrent use of a mapper. Only JSON is supported, and root values must not be
+ * wrapped.</p>
+ *
+ * <p>Instances of this class are thread-safe.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableBatchWriter {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+    private final ObjectWriter writer;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+
+    /*
+     * The buffers that are currently not in use. At most maxPendingChunks buffers are in use concurrently, which also
+     * bounds the size of the pool.
+     */
+    private final ConcurrentLinkedDeque<ChunkBuffer> buffers = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Creates a new batch writer based on the given mapper.
+     *
+     * <p>The batch writer uses the {@link ForkJoinPool#commonPool() common pool} and a chunk size of {@code 1024}
+     * elements by default.</p>
+     *
+     * @param mapper    the mapper to base the writer on
+     *
+     * @throws IllegalArgumentException if the mapper does not write JSON, or if it wraps root values
+     *
+     * @since   2.1.0
+     */
+    public OmittableBatchWriter(ObjectMapper mapper) {
+        this(mapper.writer());
+    }
+
+    /**
+     * Creates a new batch writer based on the given writer.
+     *
+     * <p>The batch writer uses the {@link ForkJoinPool#commonPool() common pool} and a chunk size of {@code 1024}
+     * elements by default.</p>
+     *
+     * @param writer    the writer to serialize the elements with
+     *
+     * @throws IllegalArgumentException if the writer does not write JSON, or if it wraps root values
+     *
+     * @since   2.1.0
+     */
+    public OmittableBatchWriter(ObjectWriter writer) {
+        this(validate(writer), ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /*
+     * The chunks are joined by separating them with commas. This is only sound for JSON output without root wrapping.
+     */
+    private static ObjectWriter validate(ObjectWriter writer) {
+        if (!(writer.generatorFactory() instanceof JsonFactory)) {
+            throw new IllegalArgumentException("OmittableBatchWriter only supports JSON, but the writer uses " + writer.generatorFactory().getFormatName());
+        } else if (writer.isEnabled(SerializationFeature.WRAP_ROOT_VALUE) || writer.getConfig().getFullRootName() != null) {
+            throw new IllegalArgumentException("OmittableBatchWriter does not support wrapping root values");
+        }
+
+        return writer;
+    }
+
+    private OmittableBatchWriter(ObjectWriter writer, Executor executor, int chunkSize) {
+        this.writer = writer;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Returns a batch writer that renders chunks using the given executor.
+     *
+     * <p>Virtual threads may be used by passing an executor such as
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}.</p>
+     *
+     * @param executor  the executor to render chunks with
+     *
+     * @return  a batch writer that uses the given executor
+     *
+     * @since   2.1.0
+     */
+    public OmittableBatchWriter withExecutor(Executor executor) {
+        return new OmittableBatchWriter(this.writer, Objects.requireNonNull(executor), this.chunkSize);
+    }
+
+    /**
+     * Returns a batch writer that splits lists into chunks of the given size.
+     *
+     * @param chunkSize the maximum number of elements per chunk
+     *
+     * @return  a batch writer that uses the given chunk size
+     *
+     * @throws IllegalArgumentException if the chunk size is not positive
+     *
+     * @since   2.1.0
+     */
+    public OmittableBatchWriter withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        return new OmittableBatchWriter(this.writer, this.executor, chunkSize);
+    }
+
+    /**
+     * Serializes the given values as a JSON array to the given stream.
+     *
+     * <p>The stream is not closed.</p>
+     *
+     * @param out       the stream to write to
+     * @param values    the values to serialize
+     *
+     * @throws JacksonException     if a value could not be serialized
+     * @throws UncheckedIOException if the output could not be written
+     *
+     * @since   2.1.0
+     */
+    public void writeValues(OutputStream out, List<?> values) throws JacksonException {
+        Deque<CompletableFuture<byte[]>> pendingChunks = new ArrayDeque<>();
+
+        try {
+            out.write('[');
+
+            boolean first = true;
+
+            for (int from = 0, size = values.size(); from < size; from += this.chunkSize) {
+                if (pendingChunks.size() >= this.maxPendingChunks) {
+                    writeChunk(out, pendingChunks.removeFirst(), first);
+                    first = false;
+                }
+
+                List<?> chunk = values.subList(from, Math.min(size, from + this.chunkSize));
+                pendingChunks.addLast(CompletableFuture.supplyAsync(() -> this.renderChunk(chunk), this.executor));
+            }
+
+            while (!pendingChunks.isEmpty()) {
+                writeChunk(out, pendingChunks.removeFirst(), first);
+                first = false;
+            }
+
+            out.write(']');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // Skip rendering the remaining chunks if writing failed.
+            for (CompletableFuture<byte[]> pendingChunk : pendingChunks) pendingChunk.cancel(false);
+        }
+    }
+
+    /**
+     * Serializes the given values as a JSON array.
+     *
+     * @param values    the values to serialize
+     *
+     * @return  the serialized array
+     *
+     * @throws JacksonException if a value could not be serialized
+     *
+     * @since   2.1.0
+     */
+    public byte[] writeValuesAsBytes(List<?> values) throws JacksonException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.writeValues(out, values);
+
+        return out.toByteArray();
+    }
+
+    /*
+     * Renders the elements of the chunk as an array and returns its contents without the enclosing brackets.
+     */
+    private byte[] renderChunk(List<?> chunk) {
+        ChunkBuffer buffer = this.buffers.pollFirst();
+        if (buffer == null) buffer = new ChunkBuffer();
+
+        try {
+            try (SequenceWriter sequenceWriter = this.writer.writeValuesAsArray(buffer)) {
+                for (Object element : chunk) sequenceWriter.write(element);
+            }
+
+            return buffer.arrayContents();
+        } finally {
+            // Do not retain exceptionally large buffers.
+            if (buffer.capacity() <= MAX_RETAINED_BUFFER_SIZE) {
+                buffer.reset();
+                this.buffers.offerFirst(buffer);
+            }
+        }
+    }
+
+    private static void writeChunk(OutputStream out, CompletableFuture<byte[]> pendingChunk, boolean first) throws IOException {
+        byte[] chunk;
+
+        try {
+            chunk = pendingChunk.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            if (cause instanceof IOException ioException) throw ioException;
+
+            throw new IllegalStateException("Could not render chunk", cause);
+        }
+
+        if (!first) out.write(',');
+        out.write(chunk);
+    }
+
+    private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+        int capacity() {
+            return this.buf.length;
+        }
+
+        byte[] arrayContents() {
+            int start = 0, end = this.count;
+            while (start < end && this.buf[start] != '[') start++;
+            while (end > start && this.buf[end - 1] != ']') end--;
+
+            return Arrays.copyOfRange(this.buf, start + 1, end - 1);
+        }
+
+    }
+
+}
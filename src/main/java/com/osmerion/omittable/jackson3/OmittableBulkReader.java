@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.internal.OmittableGeneratedSupport;
+import com.osmerion.omittable.jackson3.internal.OmittableResettingDeserializerModifier;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams a sequence of documents into objects with {@link Omittable} properties one by one.
+ *
+ * <p>Both JSON arrays and root-level value sequences (such as NDJSON) are supported. By default, a new instance is
+ * created for each document. To keep memory usage flat for large imports, a reader may be configured to
+ * {@link #reusing(Object) reuse} a single instance instead. In that case, all {@code Omittable} properties of the
+ * instance are reset to absent before each document is read into it, so that properties that are missing from a
+ * document never retain the values of a previous document.</p>
+ *
+ * <pre>{@code
+ * OmittableBulkReader<PersonPatch> reader = new OmittableBulkReader<>(mapper, PersonPatch.class)
+ *     .reusing(new PersonPatch());
+ *
+ * try (MappingIterator<PersonPatch> it = reader.readValues(src)) {
+ *     while (it.hasNextValue()) {
+ *         PersonPatch patch = it.nextValue();
+ *         // Process the patch before advancing the iterator.
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Since a reused instance is updated in place, it must be mutable and must be consumed before the iterator is
+ * advanced. Resetting is only supported for types that are deserialized by Jackson's bean deserializer. Instances of
+ * types with custom deserializers (including the deserializers generated for {@link OmittableJson @OmittableJson}
+ * classes) cannot be reused.</p>
+ *
+ * <p>The underlying reader for a type is derived from the given mapper once and then shared by all bulk readers for
+ * the same mapper and type. Thus, creating a bulk reader is cheap after the first one has been created.</p>
+ *
+ * @param <T>   the type of the objects to read
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableBulkReader<T> {
+
+    /*
+     * The readers derived from a mapper by type. The mappers are held weakly so that the derived readers do not outlive
+     * them.
+     */
+    private static final Map<ObjectMapper, Map<Class<?>, ObjectReader>> READERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ObjectReader reader;
+    private final Class<T> type;
+
+    /**
+     * Creates a new bulk reader for the given type based on the given mapper.
+     *
+     * @param mapper    the mapper to base the reader on
+     * @param type      the type of the objects to read
+     *
+     * @since   2.1.0
+     */
+    public OmittableBulkReader(ObjectMapper mapper, Class<T> type) {
+        this(READERS.computeIfAbsent(mapper, k -> new ConcurrentHashMap<>()).computeIfAbsent(type, k -> createReader(mapper, k)), type);
+    }
+
+    private OmittableBulkReader(ObjectReader reader, Class<T> type) {
+        this.reader = reader;
+        this.type = type;
+    }
+
+    private static ObjectReader createReader(ObjectMapper mapper, Class<?> type) {
+        return mapper.rebuild()
+            .addModule(new SimpleModule("OmittableBulkReader").setDeserializerModifier(new OmittableResettingDeserializerModifier(type)))
+            .build()
+            .readerFor(type);
+    }
+
+    /**
+     * Returns a bulk reader that reads every document into the given instance.
+     *
+     * @param instance  the instance to reuse
+     *
+     * @return  a bulk reader that reuses the given instance
+     *
+     * @throws IllegalArgumentException if the properties of instances of the type of this reader cannot be reset
+     *
+     * @since   2.1.0
+     */
+    public OmittableBulkReader<T> reusing(T instance) {
+        /*
+         * Deserializers that are not bean deserializers are rejected when the first document is read. Deserializers that
+         * are specified by annotations bypass the modifier that detects them though, so these are rejected upfront.
+         */
+        JsonDeserialize annotation = this.type.getAnnotation(JsonDeserialize.class);
+
+        if ((annotation != null && annotation.using() != ValueDeserializer.None.class)
+            || (this.type.isAnnotationPresent(OmittableJson.class) && OmittableGeneratedSupport.isCompatible(this.reader.getConfig(), this.type))) {
+            throw new IllegalArgumentException("Instances of " + this.type.getName() + " cannot be reused since it is not deserialized by a bean deserializer");
+        }
+
+        return new OmittableBulkReader<>(this.reader.withValueToUpdate(instance), this.type);
+    }
+
+    /**
+     * Returns an iterator over the documents read from the given parser.
+     *
+     * <p>If the parser is positioned at (or directly before) the start of an array, the elements of the array are
+     * read. Otherwise, root-level values are read until the end of the input.</p>
+     *
+     * @param p the parser to read the documents from
+     *
+     * @return  an iterator over the documents
+     *
+     * @throws JacksonException if the input could not be read, or if an instance is reused but the type of this reader
+     *                          is not deserialized by a bean deserializer
+     *
+     * @since   2.1.0
+     */
+    public MappingIterator<T> readValues(JsonParser p) throws JacksonException {
+        if (!p.hasCurrentToken()) p.nextToken();
+        if (p.isExpectedStartArrayToken()) p.nextToken();
+
+        return this.reader.readValues(p);
+    }
+
+    /**
+     * Returns an iterator over the documents read from the given stream.
+     *
+     * @param src   the stream to read the documents from
+     *
+     * @return  an iterator over the documents
+     *
+     * @throws JacksonException if the input could not be read, or if an instance is reused but the type of this reader
+     *                          is not deserialized by a bean deserializer
+     *
+     * @since   2.1.0
+     */
+    public MappingIterator<T> readValues(InputStream src) throws JacksonException {
+        return this.reader.readValues(src);
+    }
+
+    /**
+     * Returns an iterator over the documents read from the given reader.
+     *
+     * @param src   the reader to read the documents from
+     *
+     * @return  an iterator over the documents
+     *
+     * @throws JacksonException if the input could not be read, or if an instance is reused but the type of this reader
+     *                          is not deserialized by a bean deserializer
+     *
+     * @since   2.1.0
+     */
+    public MappingIterator<T> readValues(Reader src) throws JacksonException {
+        return this.reader.readValues(src);
+    }
+
+    /**
+     * Returns an iterator over the documents in the given content.
+     *
+     * @param content   the content to read the documents from
+     *
+     * @return  an iterator over the documents
+     *
+     * @throws JacksonException if the input could not be read, or if an instance is reused but the type of this reader
+     *                          is not deserialized by a bean deserializer
+     *
+     * @since   2.1.0
+     */
+    public MappingIterator<T> readValues(String content) throws JacksonException {
+        return this.reader.readValues(content);
+    }
+
+}
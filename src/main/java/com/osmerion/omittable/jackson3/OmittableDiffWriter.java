@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.internal.OmittableDiffSerializer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Writes the differences between two versions of an object as a JSON Merge Patch
+ * (<a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a>) document.
+ *
+ * <p>The patch is written directly to the output without materializing an intermediate object first:</p>
+ *
+ * <ul>
+ * <li>Properties that are unchanged are omitted.</li>
+ * <li>Properties that are changed are written with their new value. Nested objects are compared recursively so that
+ *     only their changed properties are written.</li>
+ * <li>Properties that are removed (i.e. {@link Omittable} properties that are absent in the new version but present
+ *     in the old one, and other properties that are {@code null} in the new version) are written as {@code null}.</li>
+ * </ul>
+ *
+ * <p>Properties are written using the property writers of the underlying mapper and are compared using
+ * {@link java.util.Objects#deepEquals(Object, Object)} (i.e. arrays are compared by their contents). Collections, maps
+ * and arrays are replaced as a whole. This class is the counterpart of the
+ * {@link OmittablePatcher}.</p>
+ *
+ * <p>Instances of this class are thread-safe.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableDiffWriter {
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a new diff writer based on the given mapper.
+     *
+     * @param mapper    the mapper to base the diff writer on
+     *
+     * @since   2.1.0
+     */
+    public OmittableDiffWriter(ObjectMapper mapper) {
+        this.mapper = mapper.rebuild()
+            .addModule(new SimpleModule("OmittableDiffWriter").addSerializer(OmittableDiffSerializer.Diff.class, new OmittableDiffSerializer()))
+            .build();
+    }
+
+    /**
+     * Writes the differences between the given versions to the given generator.
+     *
+     * @param <T>       the type of the object
+     * @param g         the generator to write to
+     * @param oldValue  the old version
+     * @param newValue  the new version
+     *
+     * @throws IllegalArgumentException if the versions are not of the same class
+     * @throws JacksonException         if the patch could not be written
+     *
+     * @since   2.1.0
+     */
+    public <T> void writeDiff(JsonGenerator g, T oldValue, T newValue) throws JacksonException {
+        this.mapper.writeValue(g, diff(oldValue, newValue));
+    }
+
+    /**
+     * Returns the differences between the given versions as a byte array.
+     *
+     * @param <T>       the type of the object
+     * @param oldValue  the old version
+     * @param newValue  the new version
+     *
+     * @return  the patch document
+     *
+     * @throws IllegalArgumentException if the versions are not of the same class
+     * @throws JacksonException         if the patch could not be written
+     *
+     * @since   2.1.0
+     */
+    public <T> byte[] writeDiffAsBytes(T oldValue, T newValue) throws JacksonException {
+        return this.mapper.writeValueAsBytes(diff(oldValue, newValue));
+    }
+
+    /**
+     * Returns the differences between the given versions as a string.
+     *
+     * @param <T>       the type of the object
+     * @param oldValue  the old version
+     * @param newValue  the new version
+     *
+     * @return  the patch document
+     *
+     * @throws IllegalArgumentException if the versions are not of the same class
+     * @throws JacksonException         if the patch could not be written
+     *
+     * @since   2.1.0
+     */
+    public <T> String writeDiffAsString(T oldValue, T newValue) throws JacksonException {
+        return this.mapper.writeValueAsString(diff(oldValue, newValue));
+    }
+
+    private static OmittableDiffSerializer.Diff diff(Object oldValue, Object newValue) {
+        if (oldValue.getClass() != newValue.getClass()) {
+            throw new IllegalArgumentException("Cannot diff instances of different classes: " + oldValue.getClass().getName() + " and " + newValue.getClass().getName());
+        }
+
+        return new OmittableDiffSerializer.Diff(oldValue, newValue);
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A selection of the properties of an object (and of its nested objects) that should be serialized.
+ *
+ * <p>Selections are usually parsed from sparse fieldset expressions such as {@code a,b.c}, where properties are
+ * separated by commas and nested properties are addressed using dots. A property that is selected without any nested
+ * properties is selected entirely.</p>
+ *
+ * <p>Instances of this class are immutable and may be used as keys.</p>
+ *
+ * @see OmittableProjector
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableFieldSelection {
+
+    private static final OmittableFieldSelection ALL = new OmittableFieldSelection(Map.of());
+
+    /**
+     * Returns a selection that selects all properties.
+     *
+     * @return  a selection that selects all properties
+     *
+     * @since   2.1.0
+     */
+    public static OmittableFieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Parses the given sparse fieldset expression.
+     *
+     * <p>The expression is a comma-separated list of property paths. The names in a path are separated by dots.
+     * Whitespace around names is ignored. For example, {@code name,address.city} selects the {@code name} property
+     * entirely and only the {@code city} property of the {@code address} property.</p>
+     *
+     * @param fields    the expression to parse
+     *
+     * @return  the parsed selection
+     *
+     * @throws IllegalArgumentException if the expression is empty or contains an empty name
+     *
+     * @since   2.1.0
+     */
+    public static OmittableFieldSelection parse(String fields) {
+        Node root = new Node();
+
+        for (String path : fields.split(",", -1)) {
+            Node node = root;
+
+            for (String name : path.split("\\.", -1)) {
+                name = name.strip();
+                if (name.isEmpty()) throw new IllegalArgumentException("Invalid field selection: '" + fields + "'");
+
+                if (node.children == null) break;
+                node = node.children.computeIfAbsent(name, k -> new Node());
+            }
+
+            // The last name in the path is selected entirely.
+            node.children = null;
+        }
+
+        return root.toSelection();
+    }
+
+    private final Map<String, OmittableFieldSelection> fields;
+
+    private OmittableFieldSelection(Map<String, OmittableFieldSelection> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns whether this selection selects all properties.
+     *
+     * @return  whether this selection selects all properties
+     *
+     * @since   2.1.0
+     */
+    public boolean isAll() {
+        return this.fields.isEmpty();
+    }
+
+    /**
+     * Returns the selection for the nested properties of the property with the given name.
+     *
+     * @param name  the name of the property
+     *
+     * @return  the selection for the nested properties, or {@code null} if the property is not selected
+     *
+     * @since   2.1.0
+     */
+    public @Nullable OmittableFieldSelection get(String name) {
+        return this.isAll() ? ALL : this.fields.get(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        return obj instanceof OmittableFieldSelection other && this.fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (this.isAll()) return "*";
+
+        StringBuilder sb = new StringBuilder();
+        this.fields.forEach((name, selection) -> {
+            if (!sb.isEmpty()) sb.append(',');
+            sb.append(name);
+            if (!selection.isAll()) sb.append('(').append(selection).append(')');
+        });
+
+        return sb.toString();
+    }
+
+    private static final class Node {
+
+        /* The selected nested properties, or null if all properties are selected. */
+        @Nullable Map<String, Node> children = new LinkedHashMap<>();
+
+        OmittableFieldSelection toSelection() {
+            if (this.children == null) return ALL;
+
+            Map<String, OmittableFieldSelection> fields = new LinkedHashMap<>();
+            this.children.forEach((name, child) -> fields.put(name, child.toSelection()));
+
+            return new OmittableFieldSelection(Collections.unmodifiableMap(fields));
+        }
+
+    }
+
+}
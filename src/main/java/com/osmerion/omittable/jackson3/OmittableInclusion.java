@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+
+/**
+ * Configures which {@link Omittable} values are included when serializing bean properties.
+ *
+ * <p>Absent values are never included. An inclusion may be configured globally and per type on the
+ * {@link OmittableModule}, and per type and per property using {@link JsonOmittableInclusion}. The more specific
+ * configuration takes precedence for every setting that is not {@code DEFAULT}.</p>
+ *
+ * <p>The inclusion is resolved once when the serializer for a bean is constructed.</p>
+ *
+ * @param presentNull   how present {@code null} values are handled
+ * @param rawNull       how {@code null} references to an {@code Omittable} are handled
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public record OmittableInclusion(PresentNull presentNull, RawNull rawNull) {
+
+    /**
+     * An inclusion that does not override any settings.
+     *
+     * @since   2.1.0
+     */
+    public static final OmittableInclusion DEFAULT = new OmittableInclusion(PresentNull.DEFAULT, RawNull.DEFAULT);
+
+    /**
+     * Returns an inclusion that uses the settings of the given inclusion, unless they are {@code DEFAULT}, and the
+     * settings of this inclusion otherwise.
+     *
+     * @param overrides the inclusion to apply on top of this inclusion
+     *
+     * @return  the combined inclusion
+     *
+     * @since   2.1.0
+     */
+    public OmittableInclusion withOverrides(OmittableInclusion overrides) {
+        PresentNull presentNull = (overrides.presentNull != PresentNull.DEFAULT) ? overrides.presentNull : this.presentNull;
+        RawNull rawNull = (overrides.rawNull != RawNull.DEFAULT) ? overrides.rawNull : this.rawNull;
+
+        return (presentNull == this.presentNull && rawNull == this.rawNull) ? this : new OmittableInclusion(presentNull, rawNull);
+    }
+
+    /**
+     * Specifies how present {@code null} values (i.e. {@code Omittable.of(null)}) are handled.
+     *
+     * @since   2.1.0
+     */
+    public enum PresentNull {
+        /**
+         * Use the setting of the enclosing scope. If no setting is specified, present {@code null} values are
+         * written.
+         *
+         * @since   2.1.0
+         */
+        DEFAULT,
+
+        /**
+         * Write present {@code null} values as {@code null}.
+         *
+         * @since   2.1.0
+         */
+        WRITE,
+
+        /**
+         * Omit present {@code null} values like absent ones.
+         *
+         * @since   2.1.0
+         */
+        OMIT
+    }
+
+    /**
+     * Specifies how {@code null} references to an {@link Omittable} are handled.
+     *
+     * @since   2.1.0
+     */
+    public enum RawNull {
+        /**
+         * Use the setting of the enclosing scope. If no setting is specified, Jackson's null handling for the property
+         * is applied.
+         *
+         * @since   2.1.0
+         */
+        DEFAULT,
+
+        /**
+         * Treat {@code null} references like absent values.
+         *
+         * @since   2.1.0
+         */
+        OMIT,
+
+        /**
+         * Write {@code null} references as {@code null}.
+         *
+         * @since   2.1.0
+         */
+        WRITE
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class for which reflection-free serializers and deserializers should be generated at compile time.
+ *
+ * <p>The {@code omittable-jackson3-processor} annotation processor generates a {@code ValueSerializer}, a
+ * {@code ValueDeserializer}, and an {@link OmittableTreeCodec} for each annotated class. These are named after the
+ * annotated class with all enclosing class names joined by {@code _} and the suffixes {@value #SERIALIZER_SUFFIX},
+ * {@value #DESERIALIZER_SUFFIX}, and {@value #TREE_CODEC_SUFFIX} respectively, and live in the same package. The
+ * {@link OmittableModule} and the {@link OmittableTreeConverter} automatically pick up the generated classes for
+ * annotated types.</p>
+ *
+ * <p>The generated code honors the same absent and {@code null} semantics as the module's reflection-based
+ * implementation. The annotated class must have a non-private no-argument constructor, and its properties must be
+ * accessible through public fields, public getters, or non-private setters. {@code @JsonIgnore}, and
+ * {@code @JsonProperty} with only a {@code value} (for renaming) on public members are supported. The processor
+ * rejects classes that use any other Jackson annotations (such as {@code @JsonInclude}, {@code @JsonView},
+ * {@code @JsonFormat}, or {@code @JsonDeserialize}) or annotations of this module. The generated deserializer supports
+ * updating existing instances.</p>
+ *
+ * <p>The generated classes bind properties by their declared names and always include them. Properties are written in
+ * declaration order, or alphabetically if {@code MapperFeature.SORT_PROPERTIES_ALPHABETICALLY} is enabled. The module
+ * falls back to the reflection-based implementation if the mapper is configured with a property naming strategy, a
+ * non-default property inclusion, case-insensitive properties, or with a mix-in or a configuration override for the
+ * annotated class. When a view is active and
+ * {@code MapperFeature.DEFAULT_VIEW_INCLUSION} is disabled, all properties are excluded, as none of them has a
+ * view.</p>
+ *
+ * <p>When the annotated class is part of a named module, its package must be exported to (or opened to) the
+ * {@code com.osmerion.omittable.jackson3} module so that the generated classes can be instantiated.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OmittableJson {
+
+    /**
+     * The suffix of the generated serializer class.
+     *
+     * @since   2.1.0
+     */
+    String SERIALIZER_SUFFIX = "_OmittableJsonSerializer";
+
+    /**
+     * The suffix of the generated deserializer class.
+     *
+     * @since   2.1.0
+     */
+    String DESERIALIZER_SUFFIX = "_OmittableJsonDeserializer";
+
+    /**
+     * The suffix of the generated tree codec class.
+     *
+     * @since   2.1.0
+     */
+    String TREE_CODEC_SUFFIX = "_OmittableJsonTreeCodec";
+
+}
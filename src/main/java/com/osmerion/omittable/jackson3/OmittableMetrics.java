@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+
+import java.lang.reflect.Method;
+
+/**
+ * A listener that is notified about events in the hot paths of the {@link OmittableModule}.
+ *
+ * <p>Implementations are called concurrently and from within serialization and deserialization, and must therefore
+ * be thread-safe and cheap. All methods do nothing by default. {@link CountingOmittableMetrics} provides an
+ * implementation based on {@link java.util.concurrent.atomic.LongAdder striped counters}.</p>
+ *
+ * @see OmittableModule#withMetrics(OmittableMetrics)
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public interface OmittableMetrics {
+
+    /**
+     * Called when an {@link Omittable} property with a present, non-{@code null} value is written.
+     *
+     * @since   2.1.0
+     */
+    default void propertyWritten() {}
+
+    /**
+     * Called when an {@link Omittable} property is skipped during serialization because it is absent.
+     *
+     * @since   2.1.0
+     */
+    default void propertySkipped() {}
+
+    /**
+     * Called when an {@link Omittable} property with a present {@code null} value is written.
+     *
+     * @since   2.1.0
+     */
+    default void nullWritten() {}
+
+    /**
+     * Called when a present, non-{@code null} {@link Omittable} is deserialized.
+     *
+     * @since   2.1.0
+     */
+    default void deserializedPresent() {}
+
+    /**
+     * Called when an absent {@link Omittable} is passed to a creator (e.g. a constructor or factory method) because the
+     * corresponding property is missing from the input.
+     *
+     * <p>Missing properties that are set via setters or fields keep the value they were initialized with and are thus
+     * not reported.</p>
+     *
+     * @since   2.1.0
+     */
+    default void deserializedAbsentCreatorParameter() {}
+
+    /**
+     * Called when a present {@code null} {@link Omittable} is deserialized.
+     *
+     * @since   2.1.0
+     */
+    default void deserializedNull() {}
+
+    /**
+     * Called when a serializer for a bean type has been constructed.
+     *
+     * <p>The reported time covers building the serializer after its properties have been collected.</p>
+     *
+     * @param beanType  the type of the bean
+     * @param nanos     the time spent constructing the serializer in nanoseconds
+     *
+     * @since   2.1.0
+     */
+    default void serializerConstructed(Class<?> beanType, long nanos) {}
+
+    /**
+     * Called when no accessor could be generated for a getter of an {@code Omittable} property while
+     * {@link OmittableModule.Feature#USE_GENERATED_ACCESSORS} is enabled. The property is read using reflection
+     * instead.
+     *
+     * @param getter    the getter
+     *
+     * @since   2.1.0
+     */
+    default void accessorGenerationFailed(Method getter) {}
+
+}
@@ -23,11 +23,16 @@ import tools.jackson.databind.deser.Deserializers;
 import tools.jackson.databind.jsontype.TypeDeserializer;
 import tools.jackson.databind.jsontype.TypeSerializer;
 import tools.jackson.databind.ser.Serializers;
+import tools.jackson.databind.type.CollectionType;
+import tools.jackson.databind.type.MapType;
 import tools.jackson.databind.type.ReferenceType;
 import com.osmerion.omittable.Omittable;
 import com.osmerion.omittable.jackson3.internal.*;
 import org.jspecify.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * A Jackson {@link JacksonModule} that adds support for {@link Omittable} types.
  *
@@ -37,16 +42,137 @@ import org.jspecify.annotations.Nullable;
  */
 public final class OmittableModule extends JacksonModule {
 
+    private int features = Feature.collectDefaults();
+    private @Nullable OmittableMetrics metrics;
+    private OmittableInclusion inclusion = OmittableInclusion.DEFAULT;
+    private final Map<Class<?>, OmittableInclusion> typeInclusions = new HashMap<>();
+    private final OmittableTypeModifier typeModifier = new OmittableTypeModifier();
+
+    /**
+     * Enables the given feature.
+     *
+     * @param feature   the feature to enable
+     *
+     * @return  this module instance
+     *
+     * @since   2.1.0
+     */
+    public OmittableModule enable(Feature feature) {
+        this.features |= feature.getMask();
+        return this;
+    }
+
+    /**
+     * Disables the given feature.
+     *
+     * @param feature   the feature to disable
+     *
+     * @return  this module instance
+     *
+     * @since   2.1.0
+     */
+    public OmittableModule disable(Feature feature) {
+        this.features &= ~feature.getMask();
+        return this;
+    }
+
+    /**
+     * Enables or disables the given feature.
+     *
+     * @param feature   the feature to configure
+     * @param enabled   whether the feature should be enabled
+     *
+     * @return  this module instance
+     *
+     * @since   2.1.0
+     */
+    public OmittableModule configure(Feature feature, boolean enabled) {
+        return enabled ? this.enable(feature) : this.disable(feature);
+    }
+
+    /**
+     * Returns whether the given feature is enabled.
+     *
+     * @param feature   the feature to check
+     *
+     * @return  whether the given feature is enabled
+     *
+     * @since   2.1.0
+     */
+    public boolean isEnabled(Feature feature) {
+        return feature.enabledIn(this.features);
+    }
+
+    /**
+     * Sets the metrics listener that is notified about events in the hot paths of this module.
+     *
+     * <p>By default, no metrics are recorded.</p>
+     *
+     * @param metrics   the metrics listener, or {@code null} to disable metrics
+     *
+     * @return  this module instance
+     *
+     * @since   2.1.0
+     */
+    public OmittableModule withMetrics(@Nullable OmittableMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets the inclusion that is used for all {@code Omittable} bean properties.
+     *
+     * <p>The inclusion may be overridden per type and per property using {@link JsonOmittableInclusion}, and per type
+     * using {@link #withInclusion(Class, OmittableInclusion)}. It does not apply to classes annotated with
+     * {@link OmittableJson}.</p>
+     *
+     * @param inclusion the inclusion to use
+     *
+     * @return  this module instance
+     *
+     * @since   2.1.0
+     */
+    public OmittableModule withInclusion(OmittableInclusion inclusion) {
+        this.inclusion = inclusion;
+        return this;
+    }
+
+    /**
+     * Sets the inclusion that is used for the {@code Omittable} properties of the given type.
+     *
+     * <p>The inclusion applies to the given type only (not to its subtypes) and takes precedence over the global
+     * inclusion and over a {@link JsonOmittableInclusion} annotation on the type. Settings that are specified on a
+     * property itself still take precedence.</p>
+     *
+     * @param type      the type to configure
+     * @param inclusion the inclusion to use
+     *
+     * @return  this module instance
+     *
+     * @since   2.1.0
+     */
+    public OmittableModule withInclusion(Class<?> type, OmittableInclusion inclusion) {
+        this.typeInclusions.put(type, inclusion);
+        return this;
+    }
+
     @Override
     public void setupModule(SetupContext context) {
         context.addSerializers(new OmittableSerializers());
-        context.addDeserializers(new OmittableDeserializers());
+        context.addDeserializers(new OmittableDeserializers(this.metrics));
+        context.addDeserializerModifier(new OmittableBeanDeserializerModifier(this.isEnabled(Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS)));
 
         // And to fully support Omittables, need to modify type info:
-        context.addTypeModifier(new OmittableTypeModifier());
+        context.addTypeModifier(this.typeModifier);
 
         // Allow enabling "treat Optional.empty() like Java nulls"
-        context.addSerializerModifier(new OmittableBeanSerializerModifier());
+        context.addSerializerModifier(new OmittableBeanSerializerModifier(
+            this.isEnabled(Feature.USE_GENERATED_ACCESSORS),
+            this.isEnabled(Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS),
+            this.metrics,
+            this.inclusion,
+            Map.copyOf(this.typeInclusions)
+        ));
     }
 
     @Override
@@ -66,17 +192,147 @@ public final class OmittableModule extends JacksonModule {
         );
     }
 
+    /**
+     * Features that may be used to configure the {@link OmittableModule}.
+     *
+     * @since   2.1.0
+     */
+    public enum Feature {
+        /**
+         * Whether to generate specialized accessors for reading {@code Omittable} properties through getter methods.
+         *
+         * <p>If enabled, a getter is invoked through a class spun up by {@link java.lang.invoke.LambdaMetafactory}
+         * instead of reflection. This is similar to what Jackson's Blackbird module does for all properties. If an
+         * accessor cannot be generated (e.g. because the bean's package is not open to this module), reflection is
+         * used as a fallback. Such fallbacks are logged at debug level and reported to
+         * {@link OmittableMetrics#accessorGenerationFailed(java.lang.reflect.Method)}.</p>
+         *
+         * <p>This feature is disabled by default.</p>
+         *
+         * @since   2.1.0
+         */
+        USE_GENERATED_ACCESSORS(false),
+
+        /**
+         * Whether to encode beans with {@code Omittable} properties compactly in formats that support binary data
+         * natively (such as CBOR and Smile).
+         *
+         * <p>If enabled, such beans are written as arrays that start with a bit mask with one bit per
+         * {@code Omittable} property and a hash of the names of the written properties, followed by the values of all
+         * other properties and of all present {@code Omittable} properties. Properties are ordered by name, and absent
+         * properties are not written at all. When reading, beans may be given in either representation. Other
+         * formats, such as JSON, are not affected.</p>
+         *
+         * <p>Since property names are not written, the writing and the reading side must agree on the set of
+         * properties of a bean. Reading fails if the hash does not match the properties of the bean. Beans whose
+         * written properties differ from the properties that can be read (e.g. because of read-only properties), beans
+         * that implement {@link OmittablePresence}, and beans that are serialized with type information or with an
+         * active view are written as objects.</p>
+         *
+         * <p>This feature is disabled by default.</p>
+         *
+         * @since   2.1.0
+         */
+        USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS(false);
+
+        private final boolean enabledByDefault;
+        private final int mask;
+
+        Feature(boolean enabledByDefault) {
+            this.enabledByDefault = enabledByDefault;
+            this.mask = (1 << this.ordinal());
+        }
+
+        private static int collectDefaults() {
+            int flags = 0;
+
+            for (Feature feature : values()) {
+                if (feature.enabledByDefault) flags |= feature.getMask();
+            }
+
+            return flags;
+        }
+
+        /**
+         * Returns whether this feature is enabled by default.
+         *
+         * @return  whether this feature is enabled by default
+         *
+         * @since   2.1.0
+         */
+        public boolean enabledByDefault() {
+            return this.enabledByDefault;
+        }
+
+        /**
+         * Returns the bit mask of this feature.
+         *
+         * @return  the bit mask of this feature
+         *
+         * @since   2.1.0
+         */
+        public int getMask() {
+            return this.mask;
+        }
+
+        /**
+         * Returns whether this feature is enabled in the given set of flags.
+         *
+         * @param flags the flags to check
+         *
+         * @return  whether this feature is enabled in the given set of flags
+         *
+         * @since   2.1.0
+         */
+        public boolean enabledIn(int flags) {
+            return (flags & this.mask) != 0;
+        }
+
+    }
+
     private static final class OmittableDeserializers extends Deserializers.Base {
 
+        private final @Nullable OmittableMetrics metrics;
+
+        OmittableDeserializers(@Nullable OmittableMetrics metrics) {
+            this.metrics = metrics;
+        }
+
         @Override
         public boolean hasDeserializerFor(DeserializationConfig config, Class<?> valueType) {
-            return valueType.equals(Omittable.class);
+            return valueType.equals(Omittable.class) || valueType.equals(DeferredValue.class) || (valueType.isAnnotationPresent(OmittableJson.class) && OmittableGeneratedSupport.isCompatible(config, valueType));
+        }
+
+        @Override
+        public @Nullable ValueDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription.Supplier beanDescRef) {
+            if (type.hasRawClass(DeferredValue.class)) return new DeferredValueDeserializer(type);
+            if (!type.getRawClass().isAnnotationPresent(OmittableJson.class) || !OmittableGeneratedSupport.isCompatible(config, type.getRawClass())) return null;
+
+            return (ValueDeserializer<?>) OmittableGeneratedSupport.instantiate(type.getRawClass(), OmittableJson.DESERIALIZER_SUFFIX);
         }
 
         @Override
         public @Nullable ValueDeserializer<?> findReferenceDeserializer(ReferenceType refType, DeserializationConfig config, BeanDescription.Supplier beanDescRef, TypeDeserializer contentTypeDeserializer, ValueDeserializer<?> contentDeserializer) {
             if (refType.hasRawClass(Omittable.class)) {
-                return new OmittableDeserializer(refType, null, contentTypeDeserializer, contentDeserializer);
+                return new OmittableDeserializer(refType, null, contentTypeDeserializer, contentDeserializer, this.metrics);
+            }
+
+            return null;
+        }
+
+        @Override
+        public @Nullable ValueDeserializer<?> findCollectionDeserializer(CollectionType type, DeserializationConfig config, BeanDescription.Supplier beanDescRef, @Nullable TypeDeserializer elementTypeDeserializer, @Nullable ValueDeserializer<?> elementDeserializer) {
+            if (elementTypeDeserializer == null && elementDeserializer == null && type.getContentType().hasRawClass(Omittable.class) && OmittableCollectionDeserializer.supports(type)) {
+                return new OmittableCollectionDeserializer(type);
+            }
+
+            return null;
+        }
+
+        @Override
+        public @Nullable ValueDeserializer<?> findMapDeserializer(MapType type, DeserializationConfig config, BeanDescription.Supplier beanDescRef, @Nullable KeyDeserializer keyDeserializer, @Nullable TypeDeserializer elementTypeDeserializer, @Nullable ValueDeserializer<?> elementDeserializer) {
+            if (keyDeserializer == null && elementTypeDeserializer == null && elementDeserializer == null && type.getContentType().hasRawClass(Omittable.class) && OmittableMapDeserializer.supports(type)) {
+                return new OmittableMapDeserializer(type);
             }
 
             return null;
@@ -86,6 +342,14 @@ public final class OmittableModule extends JacksonModule {
 
     private static final class OmittableSerializers extends Serializers.Base {
 
+        @Override
+        public @Nullable ValueSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription.Supplier beanDescRef, JsonFormat.@Nullable Value formatOverrides) {
+            if (type.hasRawClass(DeferredValue.class)) return DeferredValueSerializer.INSTANCE;
+            if (!type.getRawClass().isAnnotationPresent(OmittableJson.class) || !OmittableGeneratedSupport.isCompatible(config, type.getRawClass())) return null;
+
+            return (ValueSerializer<?>) OmittableGeneratedSupport.instantiate(type.getRawClass(), OmittableJson.SERIALIZER_SUFFIX);
+        }
+
         @Override
         public @Nullable ValueSerializer<?> findReferenceSerializer(SerializationConfig config, ReferenceType type, BeanDescription.Supplier beanDescRef, JsonFormat.Value formatOverrides, @Nullable TypeSerializer contentTypeSerializer, ValueSerializer<Object> contentValueSerializer) {
             Class<?> raw = type.getRawClass();
@@ -97,6 +361,18 @@ public final class OmittableModule extends JacksonModule {
             return null;
         }
 
+        @Override
+        public @Nullable ValueSerializer<?> findMapSerializer(SerializationConfig config, MapType type, BeanDescription.Supplier beanDescRef, JsonFormat.Value formatOverrides, @Nullable ValueSerializer<Object> keySerializer, @Nullable TypeSerializer elementTypeSerializer, @Nullable ValueSerializer<Object> elementValueSerializer) {
+            // Sorted output is left to the default implementation.
+            if (config.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) return null;
+
+            if (keySerializer == null && elementTypeSerializer == null && elementValueSerializer == null && type.getContentType().hasRawClass(Omittable.class)) {
+                return new OmittableMapSerializer(type);
+            }
+
+            return null;
+        }
+
     }
 
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.internal.OmittablePatchDeserializerModifier;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.io.InputStream;
+
+/**
+ * Applies JSON Merge Patch (<a href="https://www.rfc-editor.org/rfc/rfc7396">RFC 7396</a>) documents directly onto
+ * existing objects.
+ *
+ * <p>The patch document is streamed onto the target object without materializing an intermediate object first:</p>
+ *
+ * <ul>
+ * <li>Properties that are missing from the document are left untouched.</li>
+ * <li>Properties that are explicitly {@code null} are set to their null value. For {@link Omittable} properties, this
+ *     is a present {@code null} value.</li>
+ * <li>Nested objects (including those referenced by present omittables) are patched recursively.</li>
+ * <li>Members of maps that are explicitly {@code null} are removed from the map.</li>
+ * <li>Collections and arrays are replaced instead of merged.</li>
+ * </ul>
+ *
+ * <p>Since the target object is updated in place, it must be mutable. Immutable types such as records can only be
+ * replaced as a whole.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittablePatcher {
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a new patcher based on the given mapper.
+     *
+     * <p>The patcher uses a copy of the given mapper that is configured to merge nested values by default and to
+     * handle containers according to RFC 7396.</p>
+     *
+     * @param mapper    the mapper to base the patcher on
+     *
+     * @since   2.1.0
+     */
+    public OmittablePatcher(ObjectMapper mapper) {
+        this.mapper = mapper.rebuild()
+            .defaultMergeable(Boolean.TRUE)
+            .addModule(new SimpleModule("OmittablePatcher").setDeserializerModifier(new OmittablePatchDeserializerModifier()))
+            .build();
+    }
+
+    /**
+     * Applies the patch document read from the given parser to the given target.
+     *
+     * @param <T>       the type of the target
+     * @param target    the object to patch
+     * @param p         the parser to read the patch document from
+     *
+     * @return  the patched object (usually the target itself)
+     *
+     * @throws JacksonException if the patch document could not be read or applied
+     *
+     * @since   2.1.0
+     */
+    public <T> T apply(T target, JsonParser p) throws JacksonException {
+        return this.readerFor(target).readValue(p);
+    }
+
+    /**
+     * Applies the given patch document to the given target.
+     *
+     * @param <T>       the type of the target
+     * @param target    the object to patch
+     * @param content   the patch document
+     *
+     * @return  the patched object (usually the target itself)
+     *
+     * @throws JacksonException if the patch document could not be read or applied
+     *
+     * @since   2.1.0
+     */
+    public <T> T apply(T target, byte[] content) throws JacksonException {
+        return this.readerFor(target).readValue(content);
+    }
+
+    /**
+     * Applies the given patch document to the given target.
+     *
+     * @param <T>       the type of the target
+     * @param target    the object to patch
+     * @param content   the patch document
+     *
+     * @return  the patched object (usually the target itself)
+     *
+     * @throws JacksonException if the patch document could not be read or applied
+     *
+     * @since   2.1.0
+     */
+    public <T> T apply(T target, String content) throws JacksonException {
+        return this.readerFor(target).readValue(content);
+    }
+
+    /**
+     * Applies the patch document read from the given stream to the given target.
+     *
+     * @param <T>       the type of the target
+     * @param target    the object to patch
+     * @param src       the stream to read the patch document from
+     *
+     * @return  the patched object (usually the target itself)
+     *
+     * @throws JacksonException if the patch document could not be read or applied
+     *
+     * @since   2.1.0
+     */
+    public <T> T apply(T target, InputStream src) throws JacksonException {
+        return this.readerFor(target).readValue(src);
+    }
+
+    private ObjectReader readerFor(Object target) {
+        return this.mapper.readerForUpdating(target);
+    }
+
+}
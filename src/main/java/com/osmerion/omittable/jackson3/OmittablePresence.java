@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+
+import java.util.BitSet;
+
+/**
+ * A bean that tracks which of its {@link Omittable} properties are present in a compact bit set.
+ *
+ * <p>The tracked properties and their bit indices are declared using {@link JsonOmittablePresence}. If a bean
+ * implements this interface and is annotated accordingly, the {@link OmittableModule}</p>
+ *
+ * <ul>
+ * <li>only visits tracked properties whose bit is set during serialization, and</li>
+ * <li>sets the bit of every tracked property that is encountered during deserialization.</li>
+ * </ul>
+ *
+ * <p>This turns serialization of very sparse beans from {@code O(properties)} into {@code O(present properties)}. It
+ * is the bean's responsibility to keep the bit set in sync when properties are modified otherwise. Properties whose
+ * bit is not set are treated as absent even if they hold a present value.</p>
+ *
+ * @see JsonOmittablePresence
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public interface OmittablePresence {
+
+    /**
+     * Returns the live bit set that tracks which properties are present.
+     *
+     * <p>The returned bit set is modified during deserialization and must therefore not be a copy.</p>
+     *
+     * @return  the live bit set that tracks which properties are present
+     *
+     * @since   2.1.0
+     */
+    BitSet omittablePresence();
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.internal.OmittableProjectionSerializer;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Serializes objects with a runtime selection of properties (also known as sparse fieldsets).
+ *
+ * <p>Properties that are not selected are skipped like absent {@link Omittable}s. Selections apply to the elements of
+ * collections and arrays, so that lists of objects can be projected directly.</p>
+ *
+ * <pre>{@code
+ * OmittableProjector projector = new OmittableProjector(mapper);
+ * String json = projector.writeValueAsString(users, OmittableFieldSelection.parse("name,address.city"));
+ * }</pre>
+ *
+ * <p>Only beans that are written by Jackson's default bean serializer are projected. Beans with a {@code @JsonFilter},
+ * beans implementing {@link OmittablePresence}, beans with a different shape, and all values written while a view is
+ * active are written entirely. Type information is written as usual.</p>
+ *
+ * <p>The selected properties are computed once for every distinct combination of a type and a selection. The
+ * computed projections are cached, and the least recently used projections are evicted once the cache is full.</p>
+ *
+ * <p>Instances of this class are thread-safe.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableProjector {
+
+    private static final int DEFAULT_MAX_CACHED_PROJECTIONS = 256;
+
+    private final ObjectMapper mapper;
+
+    /**
+     * Creates a new projector based on the given mapper that caches up to 256 projections.
+     *
+     * @param mapper    the mapper to base the projector on
+     *
+     * @since   2.1.0
+     */
+    public OmittableProjector(ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_CACHED_PROJECTIONS);
+    }
+
+    /**
+     * Creates a new projector based on the given mapper.
+     *
+     * @param mapper                    the mapper to base the projector on
+     * @param maxCachedProjections      the maximum number of cached projections
+     *
+     * @throws IllegalArgumentException if {@code maxCachedProjections} is not positive
+     *
+     * @since   2.1.0
+     */
+    public OmittableProjector(ObjectMapper mapper, int maxCachedProjections) {
+        if (maxCachedProjections <= 0) throw new IllegalArgumentException("maxCachedProjections must be positive: " + maxCachedProjections);
+
+        this.mapper = mapper.rebuild()
+            .addModule(new SimpleModule("OmittableProjector").addSerializer(OmittableProjectionSerializer.Projected.class, new OmittableProjectionSerializer(maxCachedProjections)))
+            .build();
+    }
+
+    /**
+     * Writes the selected properties of the given value to the given generator.
+     *
+     * @param g         the generator to write to
+     * @param value     the value to write
+     * @param selection the properties to write
+     *
+     * @throws JacksonException if the value could not be written
+     *
+     * @since   2.1.0
+     */
+    public void writeValue(JsonGenerator g, @Nullable Object value, OmittableFieldSelection selection) throws JacksonException {
+        this.mapper.writeValue(g, new OmittableProjectionSerializer.Projected(value, selection));
+    }
+
+    /**
+     * Returns the selected properties of the given value as a byte array.
+     *
+     * @param value     the value to write
+     * @param selection the properties to write
+     *
+     * @return  the serialized value
+     *
+     * @throws JacksonException if the value could not be written
+     *
+     * @since   2.1.0
+     */
+    public byte[] writeValueAsBytes(@Nullable Object value, OmittableFieldSelection selection) throws JacksonException {
+        return this.mapper.writeValueAsBytes(new OmittableProjectionSerializer.Projected(value, selection));
+    }
+
+    /**
+     * Returns the selected properties of the given value as a string.
+     *
+     * @param value     the value to write
+     * @param selection the properties to write
+     *
+     * @return  the serialized value
+     *
+     * @throws JacksonException if the value could not be written
+     *
+     * @since   2.1.0
+     */
+    public String writeValueAsString(@Nullable Object value, OmittableFieldSelection selection) throws JacksonException {
+        return this.mapper.writeValueAsString(new OmittableProjectionSerializer.Projected(value, selection));
+    }
+
+}
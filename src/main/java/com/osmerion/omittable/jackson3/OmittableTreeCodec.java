@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Converts objects of a specific type from and to {@link ObjectNode object nodes} directly.
+ *
+ * <p>Implementations are generated for classes annotated with {@link OmittableJson} and are used by the
+ * {@link OmittableTreeConverter}. Absent {@link Omittable} properties are mapped to missing properties, and present
+ * {@code null} values are mapped to {@code null} nodes.</p>
+ *
+ * <p>This interface is not intended to be implemented manually.</p>
+ *
+ * @param <T>   the type of the objects to convert
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public interface OmittableTreeCodec<T> {
+
+    /**
+     * Converts the given value to an object node.
+     *
+     * @param value     the value to convert
+     * @param mapper    the mapper to use for converting nested values
+     *
+     * @return  the object node
+     *
+     * @since   2.1.0
+     */
+    ObjectNode toTree(T value, ObjectMapper mapper);
+
+    /**
+     * Converts the given object node to a value.
+     *
+     * @param node      the node to convert
+     * @param mapper    the mapper to use for converting nested values
+     *
+     * @return  the value
+     *
+     * @since   2.1.0
+     */
+    T fromTree(ObjectNode node, ObjectMapper mapper);
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.internal.OmittableGeneratedSupport;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts objects with {@link Omittable} properties from and to {@link ObjectNode object nodes}.
+ *
+ * <p>Absent {@code Omittable} properties are mapped to missing properties, and present {@code null} values are mapped
+ * to {@code null} nodes. For classes annotated with {@link OmittableJson}, the generated {@link OmittableTreeCodec} is
+ * used to convert objects directly without buffering tokens. Other objects are converted using
+ * {@link ObjectMapper#valueToTree(Object)} and {@link ObjectMapper#treeToValue(tools.jackson.core.TreeNode, Class)}
+ * respectively. This includes classes annotated with {@code OmittableJson} if the mapper's configuration is not
+ * supported by the generated code (for example, if a property naming strategy is configured).</p>
+ *
+ * <p>Instances of this class are thread-safe.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableTreeConverter {
+
+    private static final ClassValue<@Nullable OmittableTreeCodec<?>> CODECS = new ClassValue<>() {
+
+        @Override
+        protected @Nullable OmittableTreeCodec<?> computeValue(Class<?> type) {
+            return (OmittableTreeCodec<?>) OmittableGeneratedSupport.instantiate(type, OmittableJson.TREE_CODEC_SUFFIX);
+        }
+
+    };
+
+    private final ObjectMapper mapper;
+
+    /* Whether the mapper's configuration matches the assumptions of the generated codec, by type. */
+    private final Map<Class<?>, Boolean> compatibleForSerialization = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> compatibleForDeserialization = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new converter based on the given mapper.
+     *
+     * @param mapper    the mapper to base the converter on
+     *
+     * @since   2.1.0
+     */
+    public OmittableTreeConverter(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Converts the given value to an object node.
+     *
+     * @param value the value to convert
+     *
+     * @return  the object node
+     *
+     * @throws IllegalArgumentException if the value is not serialized as a JSON object
+     * @throws JacksonException         if the value could not be converted
+     *
+     * @since   2.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public ObjectNode valueToTree(Object value) throws JacksonException {
+        OmittableTreeCodec<Object> codec = this.findCodec((Class<Object>) (Class<?>) value.getClass(), true);
+        if (codec != null) return codec.toTree(value, this.mapper);
+
+        JsonNode node = this.mapper.valueToTree(value);
+        if (!(node instanceof ObjectNode objectNode)) throw new IllegalArgumentException("Value of type " + value.getClass().getName() + " is not serialized as a JSON object");
+
+        return objectNode;
+    }
+
+    /**
+     * Converts the given object node to a value of the given type.
+     *
+     * @param <T>   the type of the value
+     * @param node  the node to convert
+     * @param type  the type of the value
+     *
+     * @return  the value
+     *
+     * @throws JacksonException if the node could not be converted
+     *
+     * @since   2.1.0
+     */
+    public <T> T treeToValue(ObjectNode node, Class<T> type) throws JacksonException {
+        OmittableTreeCodec<T> codec = this.findCodec(type, false);
+        if (codec != null) return codec.fromTree(node, this.mapper);
+
+        return this.mapper.treeToValue(node, type);
+    }
+
+    /*
+     * Returns the generated codec for the given type, or null if there is none or if it does not match the mapper's
+     * configuration.
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable OmittableTreeCodec<T> findCodec(Class<T> type, boolean forSerialization) {
+        OmittableTreeCodec<T> codec = (OmittableTreeCodec<T>) CODECS.get(type);
+        if (codec == null) return null;
+
+        boolean isCompatible = forSerialization
+            ? this.compatibleForSerialization.computeIfAbsent(type, it -> OmittableGeneratedSupport.isCompatible(this.mapper.serializationConfig(), it))
+            : this.compatibleForDeserialization.computeIfAbsent(type, it -> OmittableGeneratedSupport.isCompatible(this.mapper.deserializationConfig(), it));
+
+        return isCompatible ? codec : null;
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Utilities to eagerly resolve the serializers and deserializers of types before they are first used.
+ *
+ * <p>Jackson constructs serializers and deserializers lazily on first use. For types with many {@code Omittable}
+ * properties, this includes introspection, the construction of the module's property writers and the
+ * contextualization of its deserializers, which may add noticeable latency to the first requests of an application.
+ * Warming up moves this work to startup.</p>
+ *
+ * <p>Types may be passed explicitly or listed in index files. An index file is a UTF-8 encoded resource at
+ * {@value #INDEX_RESOURCE} that contains one fully qualified class name per line. Blank lines and lines starting with
+ * {@code #} are ignored. Such files are typically generated at build time.</p>
+ *
+ * @since   2.1.0
+ *
+ * @author  Leon Linhart
+ */
+public final class OmittableWarmup {
+
+    /**
+     * The location of warm-up index files.
+     *
+     * @since   2.1.0
+     */
+    public static final String INDEX_RESOURCE = "META-INF/omittable-jackson3/warmup-types";
+
+    /**
+     * Eagerly resolves the serializers and deserializers for the given types.
+     *
+     * @param mapper    the mapper to warm up
+     * @param types     the types to resolve serializers and deserializers for
+     *
+     * @since   2.1.0
+     */
+    public static void warmUp(ObjectMapper mapper, Collection<? extends Class<?>> types) {
+        for (Class<?> type : types) {
+            warmUp(mapper, mapper.constructType(type));
+        }
+    }
+
+    /**
+     * Eagerly resolves the serializer and deserializer for the given type.
+     *
+     * @param mapper    the mapper to warm up
+     * @param type      the type to resolve the serializer and deserializer for
+     *
+     * @since   2.1.0
+     */
+    public static void warmUp(ObjectMapper mapper, JavaType type) {
+        /*
+         * The root value (de)serializers are resolved explicitly, since writers and readers only fetch them eagerly if
+         * the respective features are enabled. They are then cached by the mapper. This also resolves and
+         * contextualizes the (de)serializers of all properties.
+         */
+        mapper.serializationContext().findTypedValueSerializer(type, true);
+        mapper.deserializationContext().findRootValueDeserializer(type);
+    }
+
+    /**
+     * Eagerly resolves the serializers and deserializers for all types listed in the {@link #INDEX_RESOURCE index
+     * files} visible to the given class loader.
+     *
+     * @param mapper        the mapper to warm up
+     * @param classLoader   the class loader to look up index files and to load types with
+     *
+     * @return  the number of types that were warmed up
+     *
+     * @throws IllegalStateException    if a listed type cannot be loaded
+     * @throws UncheckedIOException     if an index file cannot be read
+     *
+     * @since   2.1.0
+     */
+    public static int warmUpFromIndex(ObjectMapper mapper, ClassLoader classLoader) {
+        List<Class<?>> types = new ArrayList<>();
+
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(INDEX_RESOURCE);
+
+            while (indexFiles.hasMoreElements()) {
+                URL indexFile = indexFiles.nextElement();
+
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexFile.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+
+                    while ((line = reader.readLine()) != null) {
+                        line = line.strip();
+                        if (line.isEmpty() || line.startsWith("#")) continue;
+
+                        try {
+                            types.add(Class.forName(line, false, classLoader));
+                        } catch (ClassNotFoundException e) {
+                            throw new IllegalStateException("Could not load type '" + line + "' listed in " + indexFile, e);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        warmUp(mapper, types);
+        return types.size();
+    }
+
+    private OmittableWarmup() {}
+
+}
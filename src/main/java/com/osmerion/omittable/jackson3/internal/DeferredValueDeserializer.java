@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.util.TokenBuffer;
+import com.osmerion.omittable.jackson3.DeferredValue;
+
+/**
+ * A deserializer that captures the tokens of a value instead of binding them.
+ */
+public final class DeferredValueDeserializer extends StdDeserializer<DeferredValue<?>> {
+
+    private final JavaType contentType;
+
+    public DeferredValueDeserializer(JavaType type) {
+        super(type);
+        this.contentType = type.containedTypeOrUnknown(0);
+    }
+
+    @Override
+    public DeferredValue<?> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        TokenBuffer tokens = ctxt.bufferAsCopyOfValue(p);
+        return DeferredValue.ofTokens(this.contentType, tokens);
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+import com.osmerion.omittable.jackson3.DeferredValue;
+
+/**
+ * A serializer that copies the captured tokens of unbound deferred values.
+ */
+public final class DeferredValueSerializer extends StdSerializer<DeferredValue<?>> {
+
+    public static final DeferredValueSerializer INSTANCE = new DeferredValueSerializer();
+
+    @SuppressWarnings("unchecked")
+    private DeferredValueSerializer() {
+        super((Class<DeferredValue<?>>) (Class<?>) DeferredValue.class);
+    }
+
+    @Override
+    public void serialize(DeferredValue<?> value, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        value.writeTo(g, ctxt);
+    }
+
+}
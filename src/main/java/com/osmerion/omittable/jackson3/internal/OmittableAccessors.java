@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.jackson3.OmittableMetrics;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+final class OmittableAccessors {
+
+    private static final System.Logger LOGGER = System.getLogger(OmittableAccessors.class.getName());
+
+    /**
+     * Attempts to generate an accessor for the given member using {@link LambdaMetafactory}.
+     *
+     * <p>Only non-static getter methods are supported since {@code LambdaMetafactory} cannot target fields.</p>
+     *
+     * <p>If generating an accessor for a getter fails (e.g. because the bean's package is not open to this module), the
+     * failure is logged and reported to the given metrics listener.</p>
+     *
+     * @param member    the member to generate an accessor for
+     * @param metrics   the metrics listener to report failures to, if any
+     *
+     * @return  the generated accessor, or {@code null} if no accessor could be generated
+     */
+    @SuppressWarnings("unchecked")
+    static @Nullable Function<Object, Object> tryGenerate(@Nullable AnnotatedMember member, @Nullable OmittableMetrics metrics) {
+        if (member == null) return null;
+
+        Member m = member.getMember();
+        if (!(m instanceof Method method) || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+            return null;
+        }
+
+        Class<?> declaringClass = method.getDeclaringClass();
+
+        try {
+            OmittableAccessors.class.getModule().addReads(declaringClass.getModule());
+
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodHandle getter = lookup.unreflect(method);
+
+            CallSite callSite = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                getter,
+                getter.type()
+            );
+
+            return (Function<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable t) {
+            // Fall back to reflection
+            LOGGER.log(System.Logger.Level.DEBUG, () -> "Could not generate accessor for " + method + ", falling back to reflection", t);
+            if (metrics != null) metrics.accessorGenerationFailed(method);
+
+            return null;
+        }
+    }
+
+    private OmittableAccessors() {}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.BeanDeserializerBuilder;
+import tools.jackson.databind.deser.SettableBeanProperty;
+import tools.jackson.databind.deser.ValueInstantiator;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+import tools.jackson.databind.deser.bean.BeanDeserializerBase;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public final class OmittableBeanDeserializerModifier extends ValueDeserializerModifier {
+
+    private final boolean usePresenceBitmask;
+
+    public OmittableBeanDeserializerModifier(boolean usePresenceBitmask) {
+        this.usePresenceBitmask = usePresenceBitmask;
+    }
+
+    @Override
+    public BeanDeserializerBuilder updateBuilder(
+        DeserializationConfig config,
+        BeanDescription.Supplier beanDesc,
+        BeanDeserializerBuilder builder
+    ) {
+        List<String> trackedNames = OmittablePresenceSupport.findTrackedProperties(beanDesc.get().getBeanClass());
+
+        if (trackedNames != null) {
+            List<SettableBeanProperty> replacements = new ArrayList<>();
+
+            for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext(); ) {
+                SettableBeanProperty property = it.next();
+                int index = trackedNames.indexOf(property.getName());
+
+                if (index >= 0 && property.getType().isTypeOrSubTypeOf(Omittable.class)) {
+                    replacements.add(new OmittablePresenceSettableBeanProperty(property, index));
+                }
+            }
+
+            for (SettableBeanProperty replacement : replacements) {
+                builder.addOrReplaceProperty(replacement, true);
+            }
+        }
+
+        ValueInstantiator instantiator = builder.getValueInstantiator();
+
+        if (instantiator != null
+            && instantiator.canCreateFromObjectWith()
+            && builder.getAnySetter() == null
+            && hasOmittableParameters(instantiator.getFromObjectArguments(config))) {
+            builder.setValueInstantiator(new OmittableCreatorValueInstantiator(instantiator));
+        }
+
+        return builder;
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyDeserializer(
+        DeserializationConfig config,
+        BeanDescription.Supplier beanDesc,
+        ValueDeserializer<?> deserializer
+    ) {
+        // Beans that track the presence of their properties are never encoded using a bit mask.
+        if (this.usePresenceBitmask
+            && deserializer instanceof BeanDeserializerBase
+            && OmittablePresenceSupport.findTrackedProperties(beanDesc.get().getBeanClass()) == null
+            && hasOmittableProperties(beanDesc.get())) {
+            return new OmittableBitmaskBeanDeserializer(deserializer);
+        }
+
+        return deserializer;
+    }
+
+    private static boolean hasOmittableParameters(SettableBeanProperty @Nullable [] parameters) {
+        if (parameters == null) return false;
+
+        for (SettableBeanProperty parameter : parameters) {
+            if (parameter != null && parameter.getType().isTypeOrSubTypeOf(Omittable.class)) return true;
+        }
+
+        return false;
+    }
+
+    private static boolean hasOmittableProperties(BeanDescription beanDesc) {
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            if (property.getPrimaryType().isTypeOrSubTypeOf(Omittable.class)) return true;
+        }
+
+        return false;
+    }
+
+}
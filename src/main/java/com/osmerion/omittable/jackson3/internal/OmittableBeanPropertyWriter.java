@@ -18,18 +18,61 @@ package com.osmerion.omittable.jackson3.internal;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.PropertyName;
 import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
 import tools.jackson.databind.util.NameTransformer;
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittableInclusion;
+import com.osmerion.omittable.jackson3.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
 
-public final class OmittableBeanPropertyWriter extends BeanPropertyWriter {
+import java.util.function.Function;
 
-    OmittableBeanPropertyWriter(BeanPropertyWriter base) {
+/**
+ * A property writer for {@link Omittable} properties that skips absent values.
+ *
+ * <p>The {@link OmittableInclusion} of the property is resolved when the writer is created. Omitting present
+ * {@code null} values is implemented by a specialized subclass so that the default path does not need to check for
+ * them.</p>
+ */
+public sealed class OmittableBeanPropertyWriter extends BeanPropertyWriter permits OmittableBeanPropertyWriter.PresentNullOmitting {
+
+    private final @Nullable Function<Object, Object> accessor;
+    private final @Nullable OmittableMetrics metrics;
+    private final OmittableInclusion.RawNull rawNull;
+
+    /**
+     * Returns a new writer for the given property that is specialized for the given (resolved) inclusion.
+     */
+    static OmittableBeanPropertyWriter create(
+        BeanPropertyWriter base,
+        @Nullable Function<Object, Object> accessor,
+        @Nullable OmittableMetrics metrics,
+        OmittableInclusion inclusion
+    ) {
+        return (inclusion.presentNull() == OmittableInclusion.PresentNull.OMIT)
+            ? new PresentNullOmitting(base, accessor, metrics, inclusion.rawNull())
+            : new OmittableBeanPropertyWriter(base, accessor, metrics, inclusion.rawNull());
+    }
+
+    private OmittableBeanPropertyWriter(
+        BeanPropertyWriter base,
+        @Nullable Function<Object, Object> accessor,
+        @Nullable OmittableMetrics metrics,
+        OmittableInclusion.RawNull rawNull
+    ) {
         super(base);
+        this.accessor = accessor;
+        this.metrics = metrics;
+        this.rawNull = rawNull;
     }
 
-    private OmittableBeanPropertyWriter(BeanPropertyWriter base, PropertyName propertyName) {
+    private OmittableBeanPropertyWriter(OmittableBeanPropertyWriter base, PropertyName propertyName) {
         super(base, propertyName);
+        this.accessor = base.accessor;
+        this.metrics = base.metrics;
+        this.rawNull = base.rawNull;
     }
 
     @Override
@@ -39,16 +82,125 @@ public final class OmittableBeanPropertyWriter extends BeanPropertyWriter {
 
     @Override
     public BeanPropertyWriter unwrappingWriter(NameTransformer unwrapper) {
-        return new OmittableUnwrappingBeanPropertyWriter(this, unwrapper);
+        return new OmittableUnwrappingBeanPropertyWriter(this, unwrapper, this.metrics);
     }
 
+    /*
+     * This is a reimplementation of BeanPropertyWriter.serializeAsProperty that reads the property only once. Absent
+     * values are detected by identity since Omittable.absent() is a singleton. If available, the generated accessor is
+     * used instead of reflection.
+     */
     @Override
     public void serializeAsProperty(Object bean, JsonGenerator g, SerializationContext ctxt) throws Exception {
-        Object value = this.get(bean);
-        if (value != null && value.equals(Omittable.absent())) return;
-        if (this._nullSerializer == null && value == null) return;
+        Object value = this.read(bean);
+        if (value == Omittable.absent()) {
+            if (this.metrics != null) this.metrics.propertySkipped();
+            return;
+        }
+
+        if (value == null) {
+            this.serializeRawNull(bean, g, ctxt);
+            return;
+        }
+
+        this.serializePresent((Omittable<?>) value, g, ctxt);
+    }
+
+    /*
+     * Rare path: The property holds a null reference instead of an Omittable.
+     */
+    private void serializeRawNull(Object bean, JsonGenerator g, SerializationContext ctxt) throws Exception {
+        switch (this.rawNull) {
+            case DEFAULT -> {
+                // Defer to the default implementation to apply the null-inclusion rules.
+                if (this._nullSerializer != null) super.serializeAsProperty(bean, g, ctxt);
+            }
+            case OMIT -> {
+                if (this.metrics != null) this.metrics.propertySkipped();
+            }
+            case WRITE -> {
+                g.writeName(this._name);
+
+                if (this._nullSerializer != null) {
+                    this._nullSerializer.serialize(null, g, ctxt);
+                } else {
+                    g.writeNull();
+                }
+
+                if (this.metrics != null) this.metrics.nullWritten();
+            }
+        }
+    }
+
+    void serializePresent(Omittable<?> value, JsonGenerator g, SerializationContext ctxt) throws Exception {
+        ValueSerializer<Object> ser = this._serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            PropertySerializerMap map = this._dynamicSerializers;
+            ser = map.serializerFor(cls);
+            if (ser == null) ser = this._findAndAddDynamic(map, cls, ctxt);
+        }
+
+        if (this._suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == this._suppressableValue) {
+                if (ser.isEmpty(ctxt, value)) return;
+            } else if (this._suppressableValue.equals(value)) {
+                return;
+            }
+        }
+
+        g.writeName(this._name);
+
+        if (this._typeSerializer == null) {
+            ser.serialize(value, g, ctxt);
+        } else {
+            ser.serializeWithType(value, g, ctxt, this._typeSerializer);
+        }
+
+        if (this.metrics != null) OmittableMetricsSupport.recordWritten(this.metrics, value);
+    }
+
+    /**
+     * Reads the value of this property from the given bean, using the generated accessor if available.
+     */
+    @Nullable Object read(Object bean) throws Exception {
+        return (this.accessor != null) ? this.accessor.apply(bean) : this.get(bean);
+    }
+
+    /**
+     * A writer that omits present {@code null} values like absent ones.
+     */
+    static final class PresentNullOmitting extends OmittableBeanPropertyWriter {
+
+        private PresentNullOmitting(
+            BeanPropertyWriter base,
+            @Nullable Function<Object, Object> accessor,
+            @Nullable OmittableMetrics metrics,
+            OmittableInclusion.RawNull rawNull
+        ) {
+            super(base, accessor, metrics, rawNull);
+        }
+
+        private PresentNullOmitting(PresentNullOmitting base, PropertyName propertyName) {
+            super(base, propertyName);
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new PresentNullOmitting(this, newName);
+        }
+
+        @Override
+        void serializePresent(Omittable<?> value, JsonGenerator g, SerializationContext ctxt) throws Exception {
+            if (value.orElseThrow() == null) {
+                if (super.metrics != null) super.metrics.propertySkipped();
+
+                return;
+            }
+
+            super.serializePresent(value, g, ctxt);
+        }
 
-        super.serializeAsProperty(bean, g, ctxt);
     }
 
 }
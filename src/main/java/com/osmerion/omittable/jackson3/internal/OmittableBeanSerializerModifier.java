@@ -15,33 +15,190 @@
  */
 package com.osmerion.omittable.jackson3.internal;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import tools.jackson.databind.AnnotationIntrospector;
 import tools.jackson.databind.BeanDescription;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.introspect.BeanPropertyDefinition;
 import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
 import tools.jackson.databind.ser.ValueSerializerModifier;
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.JsonOmittableInclusion;
+import com.osmerion.omittable.jackson3.OmittableInclusion;
+import com.osmerion.omittable.jackson3.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
 
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 public final class OmittableBeanSerializerModifier extends ValueSerializerModifier {
 
+    private final boolean useGeneratedAccessors;
+    private final boolean usePresenceBitmask;
+    private final @Nullable OmittableMetrics metrics;
+    private final OmittableInclusion inclusion;
+    private final Map<Class<?>, OmittableInclusion> typeInclusions;
+
+    /*
+     * The start of the current serializer construction on this thread. Construction starts before properties are
+     * changed and ends when the serializer is modified.
+     */
+    private final ThreadLocal<ConstructionStart> constructionStart = new ThreadLocal<>();
+
+    public OmittableBeanSerializerModifier(
+        boolean useGeneratedAccessors,
+        boolean usePresenceBitmask,
+        @Nullable OmittableMetrics metrics,
+        OmittableInclusion inclusion,
+        Map<Class<?>, OmittableInclusion> typeInclusions
+    ) {
+        this.useGeneratedAccessors = useGeneratedAccessors;
+        this.usePresenceBitmask = usePresenceBitmask;
+        this.metrics = metrics;
+        this.inclusion = inclusion;
+        this.typeInclusions = typeInclusions;
+    }
+
     @Override
     public List<BeanPropertyWriter> changeProperties(
         SerializationConfig config,
         BeanDescription.Supplier beanDesc,
         List<BeanPropertyWriter> beanProperties
     ) {
+        if (this.metrics != null) {
+            this.constructionStart.set(new ConstructionStart(beanDesc.get().getBeanClass(), System.nanoTime()));
+        }
+
+        @Nullable OmittableInclusion typeInclusion = null;
+
         for (int i = 0; i < beanProperties.size(); ++i) {
             BeanPropertyWriter writer = beanProperties.get(i);
             JavaType type = writer.getType();
 
             if (type.isTypeOrSubTypeOf(Omittable.class)) {
-                beanProperties.set(i, new OmittableBeanPropertyWriter(writer));
+                @Nullable Function<Object, Object> accessor = this.useGeneratedAccessors
+                    ? OmittableAccessors.tryGenerate(writer.getMember(), this.metrics)
+                    : null;
+
+                if (typeInclusion == null) typeInclusion = this.resolveTypeInclusion(beanDesc.get());
+
+                OmittableInclusion inclusion = typeInclusion;
+                JsonOmittableInclusion annotation = writer.getAnnotation(JsonOmittableInclusion.class);
+                if (annotation != null) inclusion = inclusion.withOverrides(toInclusion(annotation));
+
+                beanProperties.set(i, OmittableBeanPropertyWriter.create(writer, accessor, this.metrics, inclusion));
             }
         }
 
         return beanProperties;
     }
 
+    @Override
+    public ValueSerializer<?> modifySerializer(
+        SerializationConfig config,
+        BeanDescription.Supplier beanDesc,
+        ValueSerializer<?> serializer
+    ) {
+        if (this.metrics != null) {
+            Class<?> beanClass = beanDesc.get().getBeanClass();
+            ConstructionStart start = this.constructionStart.get();
+
+            // Serializers that were not built from bean properties (e.g. for JDK types) are not reported.
+            if (start != null && start.beanType() == beanClass) {
+                this.constructionStart.remove();
+                this.metrics.serializerConstructed(beanClass, System.nanoTime() - start.nanos());
+            }
+        }
+
+        if (serializer instanceof BeanSerializer && beanDesc.get().findAnyGetter() == null) {
+            // Filtered beans are left to the default implementation, as filters may exclude any property.
+            boolean filtered = config.getAnnotationIntrospector().findFilterId(config, beanDesc.get().getClassInfo()) != null;
+
+            List<String> trackedNames = OmittablePresenceSupport.findTrackedProperties(beanDesc.get().getBeanClass());
+            ValueSerializer<?> result = (trackedNames != null && !filtered) ? new OmittablePresenceBeanSerializer(serializer, trackedNames) : serializer;
+
+            if (!filtered && OmittableViewBeanSerializer.hasOmittablePropertiesWithViews(result)) {
+                result = new OmittableViewBeanSerializer(result);
+            }
+
+            /*
+             * The bit mask encoding is positional and bypasses the presence bit set and property filters. Thus, it is
+             * only used if the properties that are written are exactly those that are read.
+             */
+            if (this.usePresenceBitmask
+                && !filtered
+                && trackedNames == null
+                && OmittableBitmaskBeanSerializer.hasOmittableProperties(result)
+                && hasSymmetricProperties(config, beanDesc.get(), result)) {
+                result = new OmittableBitmaskBeanSerializer(result);
+            }
+
+            return result;
+        }
+
+        return serializer;
+    }
+
+    /*
+     * Returns whether the properties written by the given serializer are exactly the properties that can be read back
+     * for the given bean.
+     */
+    private static boolean hasSymmetricProperties(SerializationConfig config, BeanDescription beanDesc, ValueSerializer<?> serializer) {
+        Set<String> written = new HashSet<>();
+
+        for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+            if (!(it.next() instanceof BeanPropertyWriter writer)) return false;
+            written.add(writer.getName());
+        }
+
+        Class<?> beanClass = beanDesc.getBeanClass();
+        AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+        Set<String> ignored = config.getDefaultPropertyIgnorals(beanClass, beanDesc.getClassInfo()).findIgnoredForDeserialization();
+        Set<String> readable = new HashSet<>();
+
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            // The components of records are read through the canonical constructor.
+            boolean couldDeserialize = property.couldDeserialize() || (beanClass.isRecord() && property.hasField());
+            if (!couldDeserialize || ignored.contains(property.getName())) continue;
+
+            AnnotatedMember member = property.getPrimaryMember();
+            if (member != null && introspector.findPropertyAccess(config, member) == JsonProperty.Access.READ_ONLY) continue;
+
+            readable.add(property.getName());
+        }
+
+        return written.equals(readable);
+    }
+
+    /*
+     * Resolves the inclusion for the properties of the given type. Settings configured on the module for the type take
+     * precedence over annotations on the type, which in turn take precedence over the global settings.
+     */
+    private OmittableInclusion resolveTypeInclusion(BeanDescription beanDesc) {
+        OmittableInclusion inclusion = this.inclusion;
+
+        JsonOmittableInclusion annotation = beanDesc.getClassAnnotations().get(JsonOmittableInclusion.class);
+        if (annotation != null) inclusion = inclusion.withOverrides(toInclusion(annotation));
+
+        OmittableInclusion configured = this.typeInclusions.get(beanDesc.getBeanClass());
+        if (configured != null) inclusion = inclusion.withOverrides(configured);
+
+        return inclusion;
+    }
+
+    private static OmittableInclusion toInclusion(JsonOmittableInclusion annotation) {
+        return new OmittableInclusion(annotation.presentNull(), annotation.rawNull());
+    }
+
+    private record ConstructionStart(Class<?> beanType, long nanos) {}
+
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.SettableBeanProperty;
+import tools.jackson.databind.deser.ValueInstantiator;
+import tools.jackson.databind.deser.bean.BeanDeserializerBase;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A bean deserializer that additionally reads the array representation written by the
+ * {@link OmittableBitmaskBeanSerializer}.
+ *
+ * <p>The array representation is only recognized for formats that support binary values natively, and only if the
+ * first element of the array is a binary value. Any other input is read by the wrapped deserializer.</p>
+ *
+ * <p>Missing omittable properties are set to their absent value. Beans that cannot be created using a default
+ * constructor are read by translating the array to an object first.</p>
+ */
+final class OmittableBitmaskBeanDeserializer extends DelegatingDeserializer {
+
+    private record Slot(SettableBeanProperty property, boolean isOmittable, @Nullable Object absentValue) {}
+
+    private record Layout(Slot[] slots, int schemaHash) {}
+
+    private volatile @Nullable Layout layout;
+
+    OmittableBitmaskBeanDeserializer(ValueDeserializer<?> delegatee) {
+        super(delegatee);
+    }
+
+    @Override
+    protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+        return new OmittableBitmaskBeanDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        /*
+         * The bit mask encoding is only written for formats that support binary values natively. Other arrays (e.g.
+         * for beans with an array shape, or for single-value arrays that are unwrapped) are left to the delegate.
+         */
+        if (!p.isExpectedStartArrayToken()
+            || !ctxt.tokenStreamFactory().canHandleBinaryNatively()
+            || !(_delegatee instanceof BeanDeserializerBase beanDeserializer)) {
+            return super.deserialize(p, ctxt);
+        }
+
+        if (p.nextToken() != JsonToken.VALUE_EMBEDDED_OBJECT) {
+            // The start of the array has already been consumed, so the array is replayed from a buffer.
+            TokenBuffer buffer = ctxt.bufferForInputBuffering(p);
+            buffer.writeStartArray();
+
+            while (p.currentToken() != JsonToken.END_ARRAY) {
+                buffer.copyCurrentStructure(p);
+                p.nextToken();
+            }
+
+            buffer.writeEndArray();
+            return super.deserialize(buffer.asParserOnFirstToken(ctxt), ctxt);
+        }
+
+        Layout layout = this.layout;
+        if (layout == null) this.layout = layout = this.findLayout(beanDeserializer, ctxt);
+
+        byte[] mask = p.getBinaryValue();
+
+        // The values are positional, so they may only be assigned if they were written for the same properties.
+        if (p.nextToken() != JsonToken.VALUE_NUMBER_INT || p.getIntValue() != layout.schemaHash()) {
+            return ctxt.reportInputMismatch(this, "Presence bit mask encoded %s was written for a different set of properties", this.handledType().getName());
+        }
+
+        Slot[] slots = layout.slots();
+
+        ValueInstantiator instantiator = beanDeserializer.getValueInstantiator();
+        if (!instantiator.canCreateUsingDefault()) return this.deserializeBuffered(p, ctxt, slots, mask);
+
+        Object bean = instantiator.createUsingDefault(ctxt);
+
+        for (int i = 0, bit = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+
+            if (slot.isOmittable && !isSet(mask, bit++)) {
+                slot.property.set(ctxt, bean, slot.absentValue);
+                continue;
+            }
+
+            p.nextToken();
+            slot.property.deserializeAndSet(p, ctxt, bean);
+        }
+
+        this.expectEndArray(p, ctxt);
+        return bean;
+    }
+
+    private Object deserializeBuffered(JsonParser p, DeserializationContext ctxt, Slot[] slots, byte[] mask) throws JacksonException {
+        TokenBuffer buffer = ctxt.bufferForInputBuffering(p);
+        buffer.writeStartObject();
+
+        for (int i = 0, bit = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (slot.isOmittable && !isSet(mask, bit++)) continue;
+
+            p.nextToken();
+            buffer.writeName(slot.property.getName());
+            buffer.copyCurrentStructure(p);
+        }
+
+        buffer.writeEndObject();
+        this.expectEndArray(p, ctxt);
+
+        JsonParser bufferParser = buffer.asParserOnFirstToken(ctxt);
+        return super.deserialize(bufferParser, ctxt);
+    }
+
+    private void expectEndArray(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        if (p.nextToken() != JsonToken.END_ARRAY) {
+            ctxt.reportWrongTokenException(this, JsonToken.END_ARRAY, "Unexpected trailing value in presence bit mask encoded %s", this.handledType().getName());
+        }
+    }
+
+    private Layout findLayout(BeanDeserializerBase beanDeserializer, DeserializationContext ctxt) {
+        List<SettableBeanProperty> properties = new ArrayList<>();
+
+        for (Iterator<SettableBeanProperty> it = beanDeserializer.properties(); it.hasNext(); ) {
+            properties.add(it.next());
+        }
+
+        properties.sort(Comparator.comparing(SettableBeanProperty::getName));
+
+        Slot[] slots = new Slot[properties.size()];
+        int schemaHash = 0;
+
+        for (int i = 0; i < slots.length; i++) {
+            SettableBeanProperty property = properties.get(i);
+
+            if (property.getType().isTypeOrSubTypeOf(Omittable.class)) {
+                ValueDeserializer<Object> valueDeserializer = property.getValueDeserializer();
+                // The module's deserializer is not asked for its absent value, as it would report a missing creator parameter.
+                Object absentValue = (valueDeserializer != null && !(valueDeserializer instanceof OmittableDeserializer))
+                    ? valueDeserializer.getAbsentValue(ctxt)
+                    : Omittable.absent();
+
+                slots[i] = new Slot(property, true, absentValue);
+            } else {
+                slots[i] = new Slot(property, false, null);
+            }
+
+            schemaHash = OmittableBitmaskBeanSerializer.schemaHash(schemaHash, property.getName(), slots[i].isOmittable());
+        }
+
+        return new Layout(slots, schemaHash);
+    }
+
+    private static boolean isSet(byte[] mask, int bit) {
+        int index = bit >>> 3;
+        return index < mask.length && (mask[index] & (1 << (bit & 7))) != 0;
+    }
+
+}
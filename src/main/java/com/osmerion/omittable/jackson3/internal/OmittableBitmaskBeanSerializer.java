@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteCapability;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.databind.util.NameTransformer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A serializer that writes beans as arrays with a leading presence bit mask when the output format supports binary
+ * data natively.
+ *
+ * <p>The array starts with a binary value that has one bit per {@link Omittable} property and a
+ * {@link #schemaHash(int, String, boolean) hash} of the written properties, followed by the values of all non-omittable
+ * properties and of all present omittable properties. Properties are ordered by name. Other formats are written by
+ * the wrapped serializer.</p>
+ *
+ * @see OmittableBitmaskBeanDeserializer
+ */
+final class OmittableBitmaskBeanSerializer extends StdSerializer<Object> {
+
+    private static final BeanPropertyWriter[] NO_WRITERS = new BeanPropertyWriter[0];
+
+    private final ValueSerializer<Object> delegate;
+
+    private BeanPropertyWriter[] writers = NO_WRITERS;
+    private int omittableCount;
+    private int schemaHash;
+
+    @SuppressWarnings("unchecked")
+    OmittableBitmaskBeanSerializer(ValueSerializer<?> delegate) {
+        super(delegate.handledType());
+        this.delegate = (ValueSerializer<Object>) delegate;
+        this.collectWriters();
+    }
+
+    /**
+     * Returns whether the given serializer has any {@code Omittable} properties.
+     */
+    static boolean hasOmittableProperties(ValueSerializer<?> serializer) {
+        for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+            if (it.next() instanceof OmittableBeanPropertyWriter) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Accumulates the hash of the properties of an encoded bean.
+     *
+     * <p>Both the serializer and the deserializer compute the hash by calling this method for every property in the
+     * order they are encoded in (starting with {@code 0}). Since the encoding is positional, a bean may only be read
+     * if the hashes match.</p>
+     */
+    static int schemaHash(int hash, String name, boolean isOmittable) {
+        return 31 * (31 * hash + name.hashCode()) + (isOmittable ? 1 : 0);
+    }
+
+    private void collectWriters() {
+        List<BeanPropertyWriter> writers = new ArrayList<>();
+
+        for (Iterator<PropertyWriter> it = this.delegate.properties(); it.hasNext(); ) {
+            if (it.next() instanceof BeanPropertyWriter writer) writers.add(writer);
+        }
+
+        writers.sort(Comparator.comparing(BeanPropertyWriter::getName));
+
+        int omittableCount = 0, schemaHash = 0;
+
+        for (BeanPropertyWriter writer : writers) {
+            boolean isOmittable = (writer instanceof OmittableBeanPropertyWriter);
+            if (isOmittable) omittableCount++;
+
+            schemaHash = schemaHash(schemaHash, writer.getName(), isOmittable);
+        }
+
+        this.writers = writers.toArray(NO_WRITERS);
+        this.omittableCount = omittableCount;
+        this.schemaHash = schemaHash;
+    }
+
+    @Override
+    public void resolve(SerializationContext ctxt) {
+        this.delegate.resolve(ctxt);
+        this.collectWriters();
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        ValueSerializer<?> contextual = this.delegate.createContextual(ctxt, property);
+        if (contextual == this.delegate) return this;
+
+        // Other representations (e.g. for @JsonFormat(shape = ARRAY)) are not handled by this serializer.
+        if (!(contextual instanceof BeanSerializer || contextual instanceof OmittableViewBeanSerializer)) return contextual;
+
+        return new OmittableBitmaskBeanSerializer(contextual);
+    }
+
+    @Override
+    public ValueSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return this.delegate.unwrappingSerializer(unwrapper);
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return this.delegate.usesObjectId();
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Object value) {
+        return this.delegate.isEmpty(ctxt, value);
+    }
+
+    @Override
+    public Iterator<PropertyWriter> properties() {
+        return this.delegate.properties();
+    }
+
+    /**
+     * Returns the wrapped serializer.
+     */
+    ValueSerializer<Object> delegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public void serialize(Object bean, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        if (!g.streamWriteCapabilities().isEnabled(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY) || this.usesObjectId() || ctxt.getActiveView() != null) {
+            this.delegate.serialize(bean, g, ctxt);
+            return;
+        }
+
+        BeanPropertyWriter[] writers = this.writers;
+        BeanPropertyWriter writer = null;
+
+        try {
+            byte[] mask = new byte[(this.omittableCount + 7) >>> 3];
+
+            for (int i = 0, bit = 0; i < writers.length; i++) {
+                if (!(writers[i] instanceof OmittableBeanPropertyWriter omittableWriter)) continue;
+
+                writer = omittableWriter;
+                Object value = omittableWriter.read(bean);
+                if (value != null && value != Omittable.absent()) mask[bit >>> 3] |= (byte) (1 << (bit & 7));
+
+                bit++;
+            }
+
+            g.writeStartArray(bean);
+            g.writeBinary(mask);
+            g.writeNumber(this.schemaHash);
+
+            for (int i = 0, bit = 0; i < writers.length; i++) {
+                writer = writers[i];
+
+                if (writer instanceof OmittableBeanPropertyWriter) {
+                    boolean isPresent = (mask[bit >>> 3] & (1 << (bit & 7))) != 0;
+                    bit++;
+
+                    if (!isPresent) continue;
+                }
+
+                writer.serializeAsElement(bean, g, ctxt);
+            }
+
+            g.writeEndArray();
+        } catch (JacksonException e) {
+            throw e;
+        } catch (Exception e) {
+            String name = (writer != null) ? writer.getName() : "[unknown]";
+            this.wrapAndThrow(ctxt, e, bean, name);
+        }
+    }
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator g, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        this.delegate.serializeWithType(bean, g, ctxt, typeSer);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Shared {@link Omittable} instances for frequently deserialized values.
+ *
+ * <p>Since omittables are immutable, instances wrapping the same value may be shared freely.</p>
+ */
+final class OmittableCache {
+
+    private static final int INT_CACHE_LOW = -128;
+    private static final int INT_CACHE_HIGH = 1023;
+
+    private static final int LONG_CACHE_LOW = -128;
+    private static final int LONG_CACHE_HIGH = 127;
+
+    static final Omittable<?> PRESENT_NULL = Omittable.of(null);
+
+    private static final Omittable<Boolean> TRUE = Omittable.of(Boolean.TRUE);
+    private static final Omittable<Boolean> FALSE = Omittable.of(Boolean.FALSE);
+    private static final Omittable<String> EMPTY_STRING = Omittable.of("");
+
+    private static final Omittable<?>[] INTS = new Omittable<?>[INT_CACHE_HIGH - INT_CACHE_LOW + 1];
+    private static final Omittable<?>[] LONGS = new Omittable<?>[LONG_CACHE_HIGH - LONG_CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < INTS.length; i++) {
+            INTS[i] = Omittable.of(INT_CACHE_LOW + i);
+        }
+
+        for (int i = 0; i < LONGS.length; i++) {
+            LONGS[i] = Omittable.of((long) (LONG_CACHE_LOW + i));
+        }
+    }
+
+    /**
+     * Returns an omittable wrapping the given value, reusing a shared instance if possible.
+     *
+     * @param contents  the value to wrap
+     *
+     * @return  an omittable wrapping the given value
+     */
+    static Omittable<?> of(@Nullable Object contents) {
+        if (contents == null) return PRESENT_NULL;
+
+        Class<?> cls = contents.getClass();
+
+        if (cls == Boolean.class) {
+            return ofBoolean((Boolean) contents);
+        } else if (cls == Integer.class) {
+            int value = (Integer) contents;
+            if (value >= INT_CACHE_LOW && value <= INT_CACHE_HIGH) return INTS[value - INT_CACHE_LOW];
+        } else if (cls == Long.class) {
+            long value = (Long) contents;
+            if (value >= LONG_CACHE_LOW && value <= LONG_CACHE_HIGH) return LONGS[(int) value - LONG_CACHE_LOW];
+        } else if (cls == String.class) {
+            if (((String) contents).isEmpty()) return EMPTY_STRING;
+        }
+
+        return Omittable.of(contents);
+    }
+
+    static Omittable<?> ofBoolean(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    static Omittable<?> ofInt(int value) {
+        if (value >= INT_CACHE_LOW && value <= INT_CACHE_HIGH) return INTS[value - INT_CACHE_LOW];
+        return Omittable.of(value);
+    }
+
+    static Omittable<?> ofLong(long value) {
+        if (value >= LONG_CACHE_LOW && value <= LONG_CACHE_HIGH) return LONGS[(int) value - LONG_CACHE_LOW];
+        return Omittable.of(value);
+    }
+
+    /**
+     * Returns an array of omittables wrapping the constants of the given enum class, indexed by ordinal.
+     *
+     * @param type  the enum class
+     *
+     * @return  the omittables wrapping the constants of the given enum class, or {@code null} if the given class is
+     *          not an enum class
+     */
+    static Omittable<?> @Nullable [] forEnumConstants(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        if (constants == null) return null;
+
+        Omittable<?>[] omittables = new Omittable<?>[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            omittables[i] = Omittable.of(constants[i]);
+        }
+
+        return omittables;
+    }
+
+    private OmittableCache() {}
+
+}
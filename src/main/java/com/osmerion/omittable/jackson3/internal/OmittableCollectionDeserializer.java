@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.type.LogicalType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A deserializer for lists of {@link Omittable}s.
+ *
+ * <p>Explicit {@code null} elements are deserialized as present {@code null} values.</p>
+ */
+public final class OmittableCollectionDeserializer extends StdDeserializer<Collection<Object>> {
+
+    /**
+     * Returns whether the given collection type can be deserialized by this deserializer.
+     */
+    public static boolean supports(JavaType collectionType) {
+        Class<?> raw = collectionType.getRawClass();
+        return raw == Collection.class || raw == List.class || raw == ArrayList.class;
+    }
+
+    private final @Nullable ValueDeserializer<Object> elementDeserializer;
+
+    public OmittableCollectionDeserializer(JavaType collectionType) {
+        super(collectionType);
+        this.elementDeserializer = null;
+    }
+
+    private OmittableCollectionDeserializer(OmittableCollectionDeserializer base, ValueDeserializer<Object> elementDeserializer) {
+        super(base);
+        this.elementDeserializer = elementDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+        ValueDeserializer<Object> elementDeserializer = ctxt.findContextualValueDeserializer(_valueType.getContentType(), property);
+        if (elementDeserializer == this.elementDeserializer) return this;
+
+        return new OmittableCollectionDeserializer(this, elementDeserializer);
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Collection;
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public Collection<Object> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        return this.deserialize(p, ctxt, new ArrayList<>());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<Object> deserialize(JsonParser p, DeserializationContext ctxt, Collection<Object> intoValue) throws JacksonException {
+        ValueDeserializer<Object> elementDeserializer = this.elementDeserializer;
+        if (elementDeserializer == null) elementDeserializer = ctxt.findRootValueDeserializer(_valueType.getContentType());
+
+        if (!p.isExpectedStartArrayToken()) {
+            if (!ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                return (Collection<Object>) ctxt.handleUnexpectedToken(this.getValueType(ctxt), p);
+            }
+
+            intoValue.add(this.deserializeElement(p, ctxt, p.currentToken(), elementDeserializer));
+            return intoValue;
+        }
+
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            intoValue.add(this.deserializeElement(p, ctxt, t, elementDeserializer));
+        }
+
+        return intoValue;
+    }
+
+    private @Nullable Object deserializeElement(JsonParser p, DeserializationContext ctxt, JsonToken t, ValueDeserializer<Object> elementDeserializer) throws JacksonException {
+        return (t == JsonToken.VALUE_NULL) ? elementDeserializer.getNullValue(ctxt) : elementDeserializer.deserialize(p, ctxt);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.deser.SettableBeanProperty;
+import tools.jackson.databind.deser.ValueInstantiator;
+import tools.jackson.databind.deser.bean.PropertyValueBuffer;
+
+/**
+ * A value instantiator for property-based creators (e.g. of records) that fills missing {@link Omittable} parameters
+ * with {@link Omittable#absent()} by copying a prepared argument array.
+ *
+ * <p>Only present parameters are resolved through the {@link PropertyValueBuffer}. Missing parameters that are not
+ * omittable, or that are required, injected, or have custom null handling, are still resolved by Jackson.</p>
+ */
+final class OmittableCreatorValueInstantiator extends ValueInstantiator.Delegating {
+
+    /*
+     * The prepared arguments for a specific array of creator properties. The deserializers are only set for slots that
+     * are pre-filled with the absent value.
+     */
+    private record Template(SettableBeanProperty[] properties, @Nullable Object[] arguments, @Nullable OmittableDeserializer @Nullable [] absentDeserializers) {}
+
+    private volatile @Nullable Template template;
+
+    OmittableCreatorValueInstantiator(ValueInstantiator delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Object createFromObjectWith(DeserializationContext ctxt, SettableBeanProperty[] props, PropertyValueBuffer buffer) throws JacksonException {
+        Template template = this.template;
+        if (template == null || template.properties != props) this.template = template = createTemplate(props);
+
+        OmittableDeserializer[] absentDeserializers = template.absentDeserializers;
+
+        if (absentDeserializers == null
+            || ctxt.isEnabled(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES)
+            || ctxt.isEnabled(DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES)) {
+            return this.delegate().createFromObjectWith(ctxt, props, buffer);
+        }
+
+        Object[] arguments = template.arguments.clone();
+
+        for (int i = 0; i < props.length; i++) {
+            SettableBeanProperty property = props[i];
+            if (property == null) continue;
+
+            OmittableDeserializer absentDeserializer = absentDeserializers[i];
+
+            if (absentDeserializer == null || buffer.hasParameter(property)) {
+                arguments[property.getCreatorIndex()] = buffer.getParameter(property);
+            } else {
+                absentDeserializer.recordAbsent();
+            }
+        }
+
+        return this.delegate().createFromObjectWith(ctxt, arguments);
+    }
+
+    private static Template createTemplate(SettableBeanProperty[] props) {
+        Object[] arguments = new Object[props.length];
+        OmittableDeserializer[] absentDeserializers = new OmittableDeserializer[props.length];
+        boolean hasAbsentSlots = false;
+
+        for (int i = 0; i < props.length; i++) {
+            SettableBeanProperty property = props[i];
+
+            if (property != null
+                && property.getType().isTypeOrSubTypeOf(Omittable.class)
+                && property.getInjectableValueId() == null
+                && !property.isRequired()
+                && property.getNullValueProvider() instanceof OmittableDeserializer deserializer) {
+                arguments[property.getCreatorIndex()] = Omittable.absent();
+                absentDeserializers[i] = deserializer;
+                hasAbsentSlots = true;
+            }
+        }
+
+        return new Template(props, arguments, hasAbsentSlots ? absentDeserializers : null);
+    }
+
+}
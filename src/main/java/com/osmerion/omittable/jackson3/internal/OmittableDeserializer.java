@@ -15,34 +15,113 @@
  */
 package com.osmerion.omittable.jackson3.internal;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationConfig;
 import tools.jackson.databind.DeserializationContext;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ValueDeserializer;
 import tools.jackson.databind.deser.ValueInstantiator;
 import tools.jackson.databind.deser.std.ReferenceTypeDeserializer;
 import tools.jackson.databind.jsontype.TypeDeserializer;
+import tools.jackson.databind.util.ClassUtil;
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittableMetrics;
 import org.jspecify.annotations.Nullable;
 
 public final class OmittableDeserializer extends ReferenceTypeDeserializer<Omittable<?>> {
 
+    private final Omittable<?> @Nullable [] enumConstants;
+    private final ScalarKind scalarKind;
+    private final @Nullable OmittableMetrics metrics;
+
     public OmittableDeserializer(
         JavaType fullType,
         @Nullable ValueInstantiator inst,
         TypeDeserializer typeDeser,
-        ValueDeserializer<?> deser
+        ValueDeserializer<?> deser,
+        @Nullable OmittableMetrics metrics
     ) {
         super(fullType, inst, typeDeser, deser);
+        this.metrics = metrics;
+        this.enumConstants = OmittableCache.forEnumConstants(fullType.getReferencedType().getRawClass());
+        this.scalarKind = ScalarKind.of(fullType.getReferencedType().getRawClass(), typeDeser, deser);
     }
 
     @Override
     public OmittableDeserializer withResolved(TypeDeserializer typeDeser, ValueDeserializer<?> valueDeser) {
-        return new OmittableDeserializer(_fullType, _valueInstantiator, typeDeser, valueDeser);
+        return new OmittableDeserializer(_fullType, _valueInstantiator, typeDeser, valueDeser, this.metrics);
+    }
+
+    @Override
+    public Omittable<?> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        Omittable<?> value = this.deserializeValue(p, ctxt);
+        if (this.metrics != null) this.metrics.deserializedPresent();
+
+        return value;
+    }
+
+    private Omittable<?> deserializeValue(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        /*
+         * For common scalar types, native tokens are read directly from the parser to avoid going through the boxed
+         * content deserializer. Everything else (including coercions) is left to the content deserializer.
+         */
+        switch (this.scalarKind) {
+            case BOOLEAN -> {
+                if (p.hasToken(JsonToken.VALUE_TRUE)) return OmittableCache.ofBoolean(true);
+                if (p.hasToken(JsonToken.VALUE_FALSE)) return OmittableCache.ofBoolean(false);
+            }
+            case INT -> {
+                if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && p.getNumberType() == JsonParser.NumberType.INT) {
+                    return OmittableCache.ofInt(p.getIntValue());
+                }
+            }
+            case LONG -> {
+                if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                    JsonParser.NumberType numberType = p.getNumberType();
+
+                    if (numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG) {
+                        return OmittableCache.ofLong(p.getLongValue());
+                    }
+                }
+            }
+            case DOUBLE -> {
+                if (p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) return Omittable.of(p.getDoubleValue());
+            }
+            case NONE -> {}
+        }
+
+        return super.deserialize(p, ctxt);
+    }
+
+    @Override
+    public Omittable<?> deserialize(JsonParser p, DeserializationContext ctxt, Omittable<?> reference) throws JacksonException {
+        /*
+         * If the reference holds a value that can be updated, merge into it in place. Otherwise, (e.g. for absent
+         * references or polymorphic content) the content is replaced.
+         */
+        if (reference.isPresent() && _valueTypeDeserializer == null) {
+            Object contents = reference.orElseThrow();
+
+            if (contents != null && !Boolean.FALSE.equals(_valueDeserializer.supportsUpdate(ctxt.getConfig()))) {
+                if (this.metrics != null) this.metrics.deserializedPresent();
+                return this.updateReference(reference, _valueDeserializer.deserialize(p, ctxt, contents));
+            }
+        }
+
+        return this.deserialize(p, ctxt);
+    }
+
+    @Override
+    public @Nullable Boolean supportsUpdate(DeserializationConfig config) {
+        return (_valueTypeDeserializer == null) ? _valueDeserializer.supportsUpdate(config) : Boolean.FALSE;
     }
 
     @Override
     public Omittable<?> getNullValue(DeserializationContext ctxt) {
-        return Omittable.of(_valueDeserializer.getNullValue(ctxt));
+        if (this.metrics != null) this.metrics.deserializedNull();
+        return this.referenceValue(_valueDeserializer.getNullValue(ctxt));
     }
 
     @Override
@@ -52,12 +131,30 @@ public final class OmittableDeserializer extends ReferenceTypeDeserializer<Omitt
 
     @Override
     public Object getAbsentValue(DeserializationContext ctxt) {
+        // Jackson requests absent values for missing creator parameters only.
+        if (this.metrics != null) this.metrics.deserializedAbsentCreatorParameter();
         return Omittable.absent();
     }
 
+    /**
+     * Records that an absent value was produced without calling {@link #getAbsentValue(DeserializationContext)}.
+     */
+    void recordAbsent() {
+        if (this.metrics != null) this.metrics.deserializedAbsentCreatorParameter();
+    }
+
     @Override
-    public Omittable<?> referenceValue(Object contents) {
-        return Omittable.of(contents);
+    public Omittable<?> referenceValue(@Nullable Object contents) {
+        if (this.enumConstants != null && contents instanceof Enum<?> constant) {
+            int ordinal = constant.ordinal();
+
+            if (ordinal < this.enumConstants.length) {
+                Omittable<?> cached = this.enumConstants[ordinal];
+                if (cached.orElseThrow() == contents) return cached;
+            }
+        }
+
+        return OmittableCache.of(contents);
     }
 
     @Override
@@ -67,10 +164,30 @@ public final class OmittableDeserializer extends ReferenceTypeDeserializer<Omitt
 
     @Override
     public Omittable<?> updateReference(Omittable<?> reference, Object contents) {
-        return Omittable.of(contents);
+        // If the contents were updated in place, there is no need for a new reference.
+        if (reference.isPresent() && reference.orElseThrow() == contents) return reference;
+        return this.referenceValue(contents);
     }
 
-    // Default ought to be fine:
-//    public Boolean supportsUpdate(DeserializationConfig config) { }
+    private enum ScalarKind {
+        NONE,
+        BOOLEAN,
+        INT,
+        LONG,
+        DOUBLE;
+
+        static ScalarKind of(Class<?> type, @Nullable TypeDeserializer typeDeser, @Nullable ValueDeserializer<?> deser) {
+            // Custom content deserializers and polymorphic handling must not be bypassed.
+            if (typeDeser != null || deser == null || !ClassUtil.isJacksonStdImpl(deser)) return NONE;
+
+            if (type == Boolean.class) return BOOLEAN;
+            if (type == Integer.class) return INT;
+            if (type == Long.class) return LONG;
+            if (type == Double.class) return DOUBLE;
+
+            return NONE;
+        }
+
+    }
 
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A serializer that writes the differences between two versions of a bean as a JSON Merge Patch document.
+ *
+ * <p>The properties are written using the property writers of the bean serializers of the mapper. Nested beans that
+ * are written by a plain {@link BeanSerializer} are compared recursively, and everything else is compared using
+ * {@link Object#equals(Object)}.</p>
+ */
+public final class OmittableDiffSerializer extends StdSerializer<OmittableDiffSerializer.Diff> {
+
+    private static final BeanPropertyWriter[] NO_WRITERS = new BeanPropertyWriter[0];
+
+    /*
+     * The property writers of the bean serializers by type and enclosing property. Since this serializer is registered
+     * with a single mapper, the bean serializers (and thus their writers) are the same for every lookup. Nested beans
+     * that must not be compared recursively are mapped to an empty array.
+     */
+    private final ConcurrentHashMap<WritersKey, BeanPropertyWriter[]> writers = new ConcurrentHashMap<>();
+
+    public OmittableDiffSerializer() {
+        super(Diff.class);
+    }
+
+    @Override
+    public void serialize(Diff diff, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        Class<?> type = diff.newValue().getClass();
+        BeanPropertyWriter[] writers = this.writersFor(type, null, ctxt);
+
+        if (writers.length == 0) {
+            ctxt.reportBadDefinition(type, "Cannot write a diff for type " + type.getName() + " without bean properties");
+        }
+
+        g.writeStartObject(diff.newValue());
+        this.writeChanges(writers, diff.oldValue(), diff.newValue(), new Level(null, null, diff.newValue(), true), g, ctxt);
+        g.writeEndObject();
+    }
+
+    /*
+     * Writes the changed properties of the given bean. The names and starts of the enclosing nested objects are only
+     * written once the first change is found, so that unchanged nested beans are omitted entirely.
+     */
+    private void writeChanges(
+        BeanPropertyWriter[] writers,
+        Object oldBean,
+        Object newBean,
+        Level level,
+        JsonGenerator g,
+        SerializationContext ctxt
+    ) throws JacksonException {
+        BeanPropertyWriter writer = null;
+
+        try {
+            for (int i = 0; i < writers.length; i++) {
+                writer = writers[i];
+
+                @Nullable Object oldContents, newContents;
+                boolean wasPresent;
+
+                if (writer instanceof OmittableBeanPropertyWriter omittableWriter) {
+                    // Null references are treated like absent values.
+                    Object oldValue = omittableWriter.read(oldBean);
+                    Object newValue = omittableWriter.read(newBean);
+
+                    wasPresent = (oldValue != null && oldValue != Omittable.absent());
+                    boolean isPresent = (newValue != null && newValue != Omittable.absent());
+
+                    if (!isPresent) {
+                        if (!wasPresent) continue;
+
+                        // Removed: Write a present null value.
+                        this.start(level, g);
+                        g.writeName(writer.getName());
+                        g.writeNull();
+                        continue;
+                    }
+
+                    oldContents = wasPresent ? ((Omittable<?>) oldValue).orElseThrow() : null;
+                    newContents = ((Omittable<?>) newValue).orElseThrow();
+                } else {
+                    oldContents = writer.get(oldBean);
+                    newContents = writer.get(newBean);
+                    wasPresent = true;
+                }
+
+                if (wasPresent && Objects.deepEquals(oldContents, newContents)) continue;
+
+                if (newContents == null) {
+                    this.start(level, g);
+                    g.writeName(writer.getName());
+                    g.writeNull();
+                    continue;
+                }
+
+                if (wasPresent && oldContents != null && oldContents.getClass() == newContents.getClass()) {
+                    BeanPropertyWriter[] nestedWriters = this.writersFor(newContents.getClass(), writer, ctxt);
+
+                    if (nestedWriters.length != 0) {
+                        this.writeChanges(nestedWriters, oldContents, newContents, new Level(level, writer.getName(), newContents, false), g, ctxt);
+                        continue;
+                    }
+                }
+
+                this.start(level, g);
+                writer.serializeAsProperty(newBean, g, ctxt);
+            }
+        } catch (JacksonException e) {
+            throw e;
+        } catch (Exception e) {
+            String name = (writer != null) ? writer.getName() : "[unknown]";
+            this.wrapAndThrow(ctxt, e, newBean, name);
+        }
+
+        if (level.parent != null && level.started) g.writeEndObject();
+    }
+
+    /*
+     * Writes the names and starts of the given nested object and all of its enclosing objects that have not been
+     * started yet.
+     */
+    private void start(Level level, JsonGenerator g) throws JacksonException {
+        if (level.started) return;
+        if (level.parent != null) this.start(level.parent, g);
+
+        g.writeName(level.name);
+        g.writeStartObject(level.bean);
+        level.started = true;
+    }
+
+    /*
+     * Returns the property writers for beans of the given type. If an enclosing property is given, the writers are only
+     * returned if the property is written by a plain bean serializer. Custom serializers, type information, unwrapping,
+     * and other shapes change the representation of the nested bean, so it cannot be diffed property by property.
+     */
+    private BeanPropertyWriter[] writersFor(Class<?> type, @Nullable BeanPropertyWriter property, SerializationContext ctxt) {
+        WritersKey key = new WritersKey(type, property);
+        BeanPropertyWriter[] writers = this.writers.get(key);
+        if (writers != null) return writers;
+
+        @Nullable ValueSerializer<Object> serializer;
+
+        if (property == null) {
+            serializer = ctxt.findValueSerializer(type);
+        } else if (property.getTypeSerializer() != null || property.isUnwrapping() || property.getAnnotation(JsonSerialize.class) != null) {
+            serializer = null;
+        } else {
+            serializer = ctxt.findPrimaryPropertySerializer(type, property);
+            if (!(serializer instanceof BeanSerializer)) serializer = null;
+        }
+
+        List<BeanPropertyWriter> collected = new ArrayList<>();
+
+        if (serializer != null) {
+            for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+                if (it.next() instanceof BeanPropertyWriter writer) collected.add(writer);
+            }
+        }
+
+        writers = collected.toArray(NO_WRITERS);
+        this.writers.putIfAbsent(key, writers);
+
+        return writers;
+    }
+
+    /*
+     * A (possibly nested) object that is written. Nested objects are started lazily.
+     */
+    private static final class Level {
+
+        final @Nullable Level parent;
+        final @Nullable String name;
+        final Object bean;
+        boolean started;
+
+        Level(@Nullable Level parent, @Nullable String name, Object bean, boolean started) {
+            this.parent = parent;
+            this.name = name;
+            this.bean = bean;
+            this.started = started;
+        }
+
+    }
+
+    private record WritersKey(Class<?> type, @Nullable BeanPropertyWriter property) {}
+
+    /**
+     * A pair of two versions of a bean.
+     *
+     * @param oldValue  the old version
+     * @param newValue  the new version
+     */
+    public record Diff(Object oldValue, Object newValue) {}
+
+}
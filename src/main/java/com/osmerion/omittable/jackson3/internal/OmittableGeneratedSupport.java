@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.osmerion.omittable.jackson3.OmittableJson;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.cfg.MapperConfig;
+
+/**
+ * Support for looking up serializers and deserializers that were generated for {@link OmittableJson} classes.
+ */
+public final class OmittableGeneratedSupport {
+
+    /**
+     * Returns a new instance of the generated class with the given suffix for the given type.
+     *
+     * @param type      the annotated type
+     * @param suffix    the suffix of the generated class
+     *
+     * @return  a new instance of the generated class, or {@code null} if the given type is not annotated
+     *
+     * @throws IllegalStateException    if the given type is annotated, but the generated class cannot be instantiated
+     */
+    public static @Nullable Object instantiate(Class<?> type, String suffix) {
+        if (!type.isAnnotationPresent(OmittableJson.class)) return null;
+
+        String packageName = type.getPackageName();
+        String simpleBinaryName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        String generatedName = (packageName.isEmpty() ? "" : packageName + ".") + simpleBinaryName.replace('$', '_') + suffix;
+
+        try {
+            Class<?> generatedClass = Class.forName(generatedName, true, type.getClassLoader());
+            return generatedClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Could not instantiate generated class " + generatedName + " for " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns whether the generated classes for the given type match the given configuration.
+     *
+     * <p>The generated classes bind properties by their declared names and always include them. Configuration that
+     * changes any of this must be handled by the reflection-based implementation instead. Properties are written in the
+     * order that is used by Jackson for the configuration.</p>
+     *
+     * @param config    the mapper configuration
+     * @param type      the annotated type
+     *
+     * @return  whether the generated classes may be used
+     */
+    public static boolean isCompatible(MapperConfig<?> config, Class<?> type) {
+        if (config.getPropertyNamingStrategy() != null
+            || config.findMixInClassFor(type) != null
+            || config.findConfigOverride(type) != null
+            || config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)) {
+            return false;
+        }
+
+        JsonInclude.Value inclusion = config.getDefaultPropertyInclusion(type);
+        return isDefault(inclusion.getValueInclusion()) && isDefault(inclusion.getContentInclusion());
+    }
+
+    private static boolean isDefault(JsonInclude.Include include) {
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    private OmittableGeneratedSupport() {}
+
+}
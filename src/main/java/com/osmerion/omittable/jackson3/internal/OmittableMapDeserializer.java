@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.type.LogicalType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A deserializer for maps with {@link String} keys and {@link Omittable} values that reads property names directly
+ * from the parser.
+ *
+ * <p>Explicit {@code null} values are deserialized as present {@code null} values.</p>
+ */
+public final class OmittableMapDeserializer extends StdDeserializer<Map<String, Object>> {
+
+    /**
+     * Returns whether the given map type can be deserialized by this deserializer.
+     */
+    public static boolean supports(JavaType mapType) {
+        Class<?> raw = mapType.getRawClass();
+        return (raw == Map.class || raw == HashMap.class || raw == LinkedHashMap.class) && mapType.getKeyType().hasRawClass(String.class);
+    }
+
+    private final boolean useHashMap;
+    private final @Nullable ValueDeserializer<Object> valueDeserializer;
+
+    public OmittableMapDeserializer(JavaType mapType) {
+        super(mapType);
+        this.useHashMap = mapType.hasRawClass(HashMap.class);
+        this.valueDeserializer = null;
+    }
+
+    private OmittableMapDeserializer(OmittableMapDeserializer base, ValueDeserializer<Object> valueDeserializer) {
+        super(base);
+        this.useHashMap = base.useHashMap;
+        this.valueDeserializer = valueDeserializer;
+    }
+
+    @Override
+    public ValueDeserializer<?> createContextual(DeserializationContext ctxt, @Nullable BeanProperty property) {
+        ValueDeserializer<Object> valueDeserializer = ctxt.findContextualValueDeserializer(_valueType.getContentType(), property);
+        if (valueDeserializer == this.valueDeserializer) return this;
+
+        return new OmittableMapDeserializer(this, valueDeserializer);
+    }
+
+    @Override
+    public LogicalType logicalType() {
+        return LogicalType.Map;
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public Object getEmptyValue(DeserializationContext ctxt) {
+        return this.createMap();
+    }
+
+    @Override
+    public Map<String, Object> deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+        return this.deserialize(p, ctxt, this.createMap());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> deserialize(JsonParser p, DeserializationContext ctxt, Map<String, Object> intoValue) throws JacksonException {
+        ValueDeserializer<Object> valueDeserializer = this.valueDeserializer;
+        if (valueDeserializer == null) valueDeserializer = ctxt.findRootValueDeserializer(_valueType.getContentType());
+
+        String name;
+
+        if (p.isExpectedStartObjectToken()) {
+            name = p.nextName();
+        } else if (p.hasToken(JsonToken.PROPERTY_NAME)) {
+            name = p.currentName();
+        } else if (p.hasToken(JsonToken.END_OBJECT)) {
+            name = null;
+        } else {
+            return (Map<String, Object>) ctxt.handleUnexpectedToken(this.getValueType(ctxt), p);
+        }
+
+        for (; name != null; name = p.nextName()) {
+            JsonToken t = p.nextToken();
+            Object value = (t == JsonToken.VALUE_NULL) ? valueDeserializer.getNullValue(ctxt) : valueDeserializer.deserialize(p, ctxt);
+
+            intoValue.put(name, value);
+        }
+
+        return intoValue;
+    }
+
+    private Map<String, Object> createMap() {
+        return this.useHashMap ? new HashMap<>() : new LinkedHashMap<>();
+    }
+
+}
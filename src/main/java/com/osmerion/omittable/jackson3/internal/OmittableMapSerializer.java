@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
+import com.osmerion.omittable.Omittable;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.AnnotationIntrospector;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.introspect.AnnotatedMember;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.jdk.MapSerializer;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.Map;
+
+/**
+ * A serializer for maps with {@link Omittable} values that skips entries with absent values in a single pass.
+ *
+ * <p>Entries with present values are written using the serializer for the omittable type. {@code null} references
+ * are written as {@code null}.</p>
+ *
+ * <p>Maps that are subject to content inclusion, ignored or included entries, or filters are left to the default
+ * {@link MapSerializer}.</p>
+ */
+public final class OmittableMapSerializer extends StdSerializer<Map<?, ?>> {
+
+    private final JavaType mapType;
+    private final JavaType keyType;
+    private final JavaType valueType;
+    private final @Nullable BeanProperty property;
+    private final @Nullable ValueSerializer<Object> keySerializer;
+    private final @Nullable ValueSerializer<Object> valueSerializer;
+
+    public OmittableMapSerializer(JavaType mapType) {
+        super(mapType);
+        this.mapType = mapType;
+        this.keyType = mapType.getKeyType();
+        this.valueType = mapType.getContentType();
+        this.property = null;
+        this.keySerializer = null;
+        this.valueSerializer = null;
+    }
+
+    private OmittableMapSerializer(
+        OmittableMapSerializer base,
+        @Nullable BeanProperty property,
+        ValueSerializer<Object> keySerializer,
+        ValueSerializer<Object> valueSerializer
+    ) {
+        super(base);
+        this.mapType = base.mapType;
+        this.keyType = base.keyType;
+        this.valueType = base.valueType;
+        this.property = property;
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, @Nullable BeanProperty property) {
+        if (this.requiresDefaultSerializer(ctxt, property)) {
+            return MapSerializer.construct(this.mapType, false, null, null, null, null, null, null).createContextual(ctxt, property);
+        }
+
+        ValueSerializer<Object> keySerializer = ctxt.findKeySerializer(this.keyType, property);
+        ValueSerializer<Object> valueSerializer = ctxt.findContentValueSerializer(this.valueType, property);
+
+        if (keySerializer == this.keySerializer && valueSerializer == this.valueSerializer && property == this.property) return this;
+        return new OmittableMapSerializer(this, property, keySerializer, valueSerializer);
+    }
+
+    /*
+     * Returns whether the map needs to be written by the default serializer, as it is configured with features that
+     * the default serializer honors for each entry.
+     */
+    private boolean requiresDefaultSerializer(SerializationContext ctxt, @Nullable BeanProperty property) {
+        JsonInclude.Include contentInclusion = this.findIncludeOverrides(ctxt, property, Map.class).getContentInclusion();
+        if (contentInclusion != JsonInclude.Include.ALWAYS && contentInclusion != JsonInclude.Include.USE_DEFAULTS) return true;
+
+        AnnotatedMember member = (property != null) ? property.getMember() : null;
+        if (member == null) return false;
+
+        SerializationConfig config = ctxt.getConfig();
+        AnnotationIntrospector introspector = ctxt.getAnnotationIntrospector();
+
+        JsonIgnoreProperties.Value ignorals = introspector.findPropertyIgnoralByName(config, member);
+        if (ignorals != null && !ignorals.findIgnoredForSerialization().isEmpty()) return true;
+
+        JsonIncludeProperties.Value inclusions = introspector.findPropertyInclusionByName(config, member);
+        if (inclusions != null && inclusions.getIncluded() != null) return true;
+
+        return introspector.findFilterId(config, member) != null;
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Map<?, ?> value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(Map<?, ?> value, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        g.writeStartObject(value);
+        this.serializeEntries(value, g, ctxt);
+        g.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Map<?, ?> value, JsonGenerator g, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(g, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        this.serializeEntries(value, g, ctxt);
+        typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
+    }
+
+    private void serializeEntries(Map<?, ?> value, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        ValueSerializer<Object> keySerializer = this.keySerializer;
+        if (keySerializer == null) keySerializer = ctxt.findKeySerializer(this.keyType, this.property);
+
+        ValueSerializer<Object> valueSerializer = this.valueSerializer;
+        if (valueSerializer == null) valueSerializer = ctxt.findContentValueSerializer(this.valueType, this.property);
+
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            Object contents = entry.getValue();
+            if (contents == Omittable.absent()) continue;
+
+            Object key = entry.getKey();
+            if (key == null) {
+                ctxt.findNullKeySerializer(this.keyType, this.property).serialize(null, g, ctxt);
+            } else {
+                keySerializer.serialize(key, g, ctxt);
+            }
+
+            if (contents == null) {
+                ctxt.defaultSerializeNullValue(g);
+            } else {
+                valueSerializer.serialize(contents, g, ctxt);
+            }
+        }
+    }
+
+}
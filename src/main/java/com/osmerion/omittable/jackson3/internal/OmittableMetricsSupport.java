@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittableMetrics;
+
+final class OmittableMetricsSupport {
+
+    /**
+     * Records that the given present omittable has been written.
+     *
+     * @param metrics   the metrics to record to
+     * @param value     the written omittable
+     */
+    static void recordWritten(OmittableMetrics metrics, Object value) {
+        if (value instanceof Omittable<?> omittable && omittable.orElseThrow() == null) {
+            metrics.nullWritten();
+        } else {
+            metrics.propertyWritten();
+        }
+    }
+
+    private OmittableMetricsSupport() {}
+
+}
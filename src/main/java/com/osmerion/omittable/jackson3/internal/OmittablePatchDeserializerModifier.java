@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.JsonTokenId;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.core.util.JsonParserDelegate;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.type.ArrayType;
+import tools.jackson.databind.type.CollectionLikeType;
+import tools.jackson.databind.type.CollectionType;
+import tools.jackson.databind.type.MapType;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A deserializer modifier that adjusts container deserializers to the semantics of JSON Merge Patch (RFC 7396).
+ *
+ * <p>Collections and arrays do not support updates so that they are replaced instead of merged. Members of maps that
+ * are explicitly {@code null} are removed from the map.</p>
+ */
+public final class OmittablePatchDeserializerModifier extends ValueDeserializerModifier {
+
+    @Override
+    public ValueDeserializer<?> modifyArrayDeserializer(DeserializationConfig config, ArrayType valueType, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+        return new ReplacingDeserializer(deserializer);
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+        return new ReplacingDeserializer(deserializer);
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyCollectionLikeDeserializer(DeserializationConfig config, CollectionLikeType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+        return new ReplacingDeserializer(deserializer);
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyMapDeserializer(DeserializationConfig config, MapType type, BeanDescription.Supplier beanDescRef, ValueDeserializer<?> deserializer) {
+        return new NullRemovingMapDeserializer(deserializer);
+    }
+
+    /**
+     * A deserializer that does not support updates so that existing values are replaced.
+     */
+    private static final class ReplacingDeserializer extends DelegatingDeserializer {
+
+        ReplacingDeserializer(ValueDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+            return new ReplacingDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Boolean supportsUpdate(DeserializationConfig config) {
+            return Boolean.FALSE;
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws JacksonException {
+            return _delegatee.deserialize(p, ctxt);
+        }
+
+    }
+
+    /**
+     * A map deserializer that removes members that are explicitly {@code null}.
+     *
+     * <p>The members of the patch are streamed into the wrapped deserializer, skipping the {@code null} members. Only
+     * the names of the {@code null} members are buffered. They are deserialized separately to convert them to keys.</p>
+     */
+    private static final class NullRemovingMapDeserializer extends DelegatingDeserializer {
+
+        NullRemovingMapDeserializer(ValueDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+            return new NullRemovingMapDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws JacksonException {
+            return this.deserializePatch(p, ctxt, null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws JacksonException {
+            return this.deserializePatch(p, ctxt, (Map<Object, Object>) intoValue);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object deserializePatch(JsonParser p, DeserializationContext ctxt, @Nullable Map<Object, Object> intoValue) throws JacksonException {
+            if (!p.isExpectedStartObjectToken() && !p.hasToken(JsonToken.PROPERTY_NAME)) {
+                return (intoValue != null) ? super.deserialize(p, ctxt, intoValue) : super.deserialize(p, ctxt);
+            }
+
+            NullSkippingParser values = new NullSkippingParser(p);
+            Map<Object, Object> result = (Map<Object, Object>) ((intoValue != null) ? _delegatee.deserialize(values, ctxt, intoValue) : _delegatee.deserialize(values, ctxt));
+
+            List<String> nullNames = values.nullNames;
+
+            if (!nullNames.isEmpty()) {
+                TokenBuffer nulls = ctxt.bufferForInputBuffering(p);
+                nulls.writeStartObject();
+
+                for (String name : nullNames) {
+                    nulls.writeName(name);
+                    nulls.writeNull();
+                }
+
+                nulls.writeEndObject();
+
+                Map<?, ?> removed = (Map<?, ?>) _delegatee.deserialize(nulls.asParserOnFirstToken(ctxt), ctxt);
+                result.keySet().removeAll(removed.keySet());
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * A parser that skips the members of the current object that are explicitly {@code null} and records their names.
+     *
+     * <p>To find out whether a member is {@code null}, its value is read before its name is reported. Until the value
+     * is requested, the parser reports the name while the underlying parser is already positioned at the value.</p>
+     */
+    private static final class NullSkippingParser extends JsonParserDelegate {
+
+        final List<String> nullNames = new ArrayList<>();
+
+        private final TokenStreamContext objectContext;
+
+        /* The name that is reported while the underlying parser is positioned at the corresponding value. */
+        private @Nullable String pendingName;
+
+        NullSkippingParser(JsonParser delegate) throws JacksonException {
+            super(delegate);
+            this.objectContext = delegate.streamReadContext();
+
+            // If the parser is positioned at the name of the first member, its value has not been checked yet.
+            if (delegate.hasToken(JsonToken.PROPERTY_NAME)) {
+                String name = delegate.currentName();
+
+                while (delegate.nextToken() == JsonToken.VALUE_NULL) {
+                    this.nullNames.add(name);
+                    if (delegate.nextToken() != JsonToken.PROPERTY_NAME) return;
+
+                    name = delegate.currentName();
+                }
+
+                this.pendingName = name;
+            }
+        }
+
+        @Override
+        public @Nullable JsonToken nextToken() throws JacksonException {
+            if (this.pendingName != null) {
+                this.pendingName = null;
+                return this.delegate.currentToken();
+            }
+
+            JsonToken token = this.delegate.nextToken();
+
+            while (token == JsonToken.PROPERTY_NAME && this.delegate.streamReadContext() == this.objectContext) {
+                String name = this.delegate.currentName();
+                token = this.delegate.nextToken();
+
+                if (token != JsonToken.VALUE_NULL) {
+                    this.pendingName = name;
+                    return JsonToken.PROPERTY_NAME;
+                }
+
+                this.nullNames.add(name);
+                token = this.delegate.nextToken();
+            }
+
+            return token;
+        }
+
+        @Override
+        public @Nullable String nextName() throws JacksonException {
+            return (this.nextToken() == JsonToken.PROPERTY_NAME) ? this.currentName() : null;
+        }
+
+        @Override
+        public boolean nextName(SerializableString str) throws JacksonException {
+            return this.nextToken() == JsonToken.PROPERTY_NAME && str.getValue().equals(this.currentName());
+        }
+
+        @Override
+        public @Nullable JsonToken nextValue() throws JacksonException {
+            JsonToken token = this.nextToken();
+            return (token == JsonToken.PROPERTY_NAME) ? this.nextToken() : token;
+        }
+
+        @Override
+        public @Nullable JsonToken currentToken() {
+            return (this.pendingName != null) ? JsonToken.PROPERTY_NAME : this.delegate.currentToken();
+        }
+
+        @Override
+        public int currentTokenId() {
+            return (this.pendingName != null) ? JsonTokenId.ID_PROPERTY_NAME : this.delegate.currentTokenId();
+        }
+
+        @Override
+        public boolean hasCurrentToken() {
+            return this.pendingName != null || this.delegate.hasCurrentToken();
+        }
+
+        @Override
+        public boolean hasToken(JsonToken t) {
+            return (this.pendingName != null) ? t == JsonToken.PROPERTY_NAME : this.delegate.hasToken(t);
+        }
+
+        @Override
+        public boolean hasTokenId(int id) {
+            return (this.pendingName != null) ? id == JsonTokenId.ID_PROPERTY_NAME : this.delegate.hasTokenId(id);
+        }
+
+        @Override
+        public boolean isExpectedStartArrayToken() {
+            return this.pendingName == null && this.delegate.isExpectedStartArrayToken();
+        }
+
+        @Override
+        public boolean isExpectedStartObjectToken() {
+            return this.pendingName == null && this.delegate.isExpectedStartObjectToken();
+        }
+
+        @Override
+        public @Nullable String currentName() {
+            return (this.pendingName != null) ? this.pendingName : this.delegate.currentName();
+        }
+
+        @Override
+        public JsonParser skipChildren() throws JacksonException {
+            // Names do not have children.
+            if (this.pendingName == null) this.delegate.skipChildren();
+            return this;
+        }
+
+    }
+
+}
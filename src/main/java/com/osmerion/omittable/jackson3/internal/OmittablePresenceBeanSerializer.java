@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.databind.util.NameTransformer;
+import com.osmerion.omittable.jackson3.OmittablePresence;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A serializer for {@link OmittablePresence} beans that only visits tracked properties whose presence bit is set.
+ *
+ * <p>The property writers are taken from the wrapped bean serializer after it has been resolved.</p>
+ */
+final class OmittablePresenceBeanSerializer extends StdSerializer<Object> {
+
+    private static final BeanPropertyWriter[] NO_WRITERS = new BeanPropertyWriter[0];
+
+    private final ValueSerializer<Object> delegate;
+    private final List<String> trackedNames;
+
+    private BeanPropertyWriter[] untrackedWriters = NO_WRITERS;
+    private BeanPropertyWriter[] trackedWriters = NO_WRITERS;
+
+    @SuppressWarnings("unchecked")
+    OmittablePresenceBeanSerializer(ValueSerializer<?> delegate, List<String> trackedNames) {
+        super(delegate.handledType());
+        this.delegate = (ValueSerializer<Object>) delegate;
+        this.trackedNames = trackedNames;
+        this.collectWriters();
+    }
+
+    private void collectWriters() {
+        List<BeanPropertyWriter> untracked = new ArrayList<>();
+        BeanPropertyWriter[] tracked = new BeanPropertyWriter[this.trackedNames.size()];
+
+        for (Iterator<PropertyWriter> it = this.delegate.properties(); it.hasNext(); ) {
+            PropertyWriter property = it.next();
+            if (!(property instanceof BeanPropertyWriter writer)) continue;
+
+            int index = this.trackedNames.indexOf(writer.getName());
+
+            if (index >= 0) {
+                tracked[index] = writer;
+            } else {
+                untracked.add(writer);
+            }
+        }
+
+        this.untrackedWriters = untracked.toArray(NO_WRITERS);
+        this.trackedWriters = tracked;
+    }
+
+    @Override
+    public void resolve(SerializationContext ctxt) {
+        this.delegate.resolve(ctxt);
+        this.collectWriters();
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        ValueSerializer<?> contextual = this.delegate.createContextual(ctxt, property);
+        if (contextual == this.delegate) return this;
+
+        // Other representations (e.g. for @JsonFormat(shape = ARRAY)) are not handled by this serializer.
+        if (!(contextual instanceof BeanSerializer)) return contextual;
+
+        return new OmittablePresenceBeanSerializer(contextual, this.trackedNames);
+    }
+
+    @Override
+    public ValueSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return this.delegate.unwrappingSerializer(unwrapper);
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return this.delegate.usesObjectId();
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Object value) {
+        return this.delegate.isEmpty(ctxt, value);
+    }
+
+    @Override
+    public Iterator<PropertyWriter> properties() {
+        return this.delegate.properties();
+    }
+
+    @Override
+    public void serialize(Object bean, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        if (this.usesObjectId() || ctxt.getActiveView() != null) {
+            this.delegate.serialize(bean, g, ctxt);
+            return;
+        }
+
+        g.writeStartObject(bean);
+        this.serializeProperties(bean, g, ctxt);
+        g.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator g, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        this.delegate.serializeWithType(bean, g, ctxt, typeSer);
+    }
+
+    private void serializeProperties(Object bean, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        BeanPropertyWriter writer = null;
+
+        try {
+            for (BeanPropertyWriter untrackedWriter : this.untrackedWriters) {
+                writer = untrackedWriter;
+                writer.serializeAsProperty(bean, g, ctxt);
+            }
+
+            BitSet presence = ((OmittablePresence) bean).omittablePresence();
+            BeanPropertyWriter[] trackedWriters = this.trackedWriters;
+
+            for (int i = presence.nextSetBit(0); i >= 0 && i < trackedWriters.length; i = presence.nextSetBit(i + 1)) {
+                writer = trackedWriters[i];
+                if (writer != null) writer.serializeAsProperty(bean, g, ctxt);
+            }
+        } catch (JacksonException e) {
+            throw e;
+        } catch (Exception e) {
+            String name = (writer != null) ? writer.getName() : "[unknown]";
+            this.wrapAndThrow(ctxt, e, bean, name);
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.SettableBeanProperty;
+import com.osmerion.omittable.jackson3.OmittablePresence;
+
+/**
+ * A property that sets the presence bit of an {@link OmittablePresence} bean when it is deserialized.
+ */
+final class OmittablePresenceSettableBeanProperty extends SettableBeanProperty.Delegating {
+
+    private final int index;
+
+    OmittablePresenceSettableBeanProperty(SettableBeanProperty delegate, int index) {
+        super(delegate);
+        this.index = index;
+    }
+
+    @Override
+    protected SettableBeanProperty withDelegate(SettableBeanProperty d) {
+        return new OmittablePresenceSettableBeanProperty(d, this.index);
+    }
+
+    @Override
+    public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance) throws JacksonException {
+        this.delegate.deserializeAndSet(p, ctxt, instance);
+        ((OmittablePresence) instance).omittablePresence().set(this.index);
+    }
+
+    @Override
+    public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance) throws JacksonException {
+        Object result = this.delegate.deserializeSetAndReturn(p, ctxt, instance);
+        ((OmittablePresence) instance).omittablePresence().set(this.index);
+
+        return result;
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.jackson3.JsonOmittablePresence;
+import com.osmerion.omittable.jackson3.OmittablePresence;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+final class OmittablePresenceSupport {
+
+    /**
+     * Returns the names of the properties of the given class that are tracked in its presence bit set.
+     *
+     * @param type  the bean class
+     *
+     * @return  the names of the tracked properties (in bit index order), or {@code null} if the given class does not
+     *          track presence
+     */
+    static @Nullable List<String> findTrackedProperties(Class<?> type) {
+        if (!OmittablePresence.class.isAssignableFrom(type)) return null;
+
+        JsonOmittablePresence annotation = type.getAnnotation(JsonOmittablePresence.class);
+        if (annotation == null) return null;
+
+        return List.of(annotation.value());
+    }
+
+    private OmittablePresenceSupport() {}
+
+}
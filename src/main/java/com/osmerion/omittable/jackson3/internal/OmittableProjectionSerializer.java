@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittableFieldSelection;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.WritableTypeId;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.databind.util.SimpleLookupCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A serializer that writes only the selected properties of a value.
+ *
+ * <p>Unselected properties are skipped like absent {@link Omittable}s. For every distinct combination of a bean type
+ * and a selection, the selected property writers are computed once and cached.</p>
+ *
+ * <p>Only beans that are written by a {@link BeanSerializer} without a filter are projected. This includes beans with
+ * properties that have views (as views are never active during projection) and beans that are written using a presence
+ * bit mask (which are projected as objects instead). Any other values (including beans with tracked presence) are
+ * written entirely, as are all values while a view is active.</p>
+ */
+public final class OmittableProjectionSerializer extends StdSerializer<OmittableProjectionSerializer.Projected> {
+
+    private static final BeanPropertyWriter[] NO_WRITERS = new BeanPropertyWriter[0];
+    private static final OmittableFieldSelection[] NO_SELECTIONS = new OmittableFieldSelection[0];
+    private static final TypeSerializer[] NO_TYPE_SERIALIZERS = new TypeSerializer[0];
+
+    /* A marker for types that are not projected. */
+    private static final Projection NOT_A_BEAN = new Projection(null, NO_WRITERS, NO_SELECTIONS, NO_TYPE_SERIALIZERS);
+
+    /*
+     * The compiled projections. Since this serializer is registered with a single mapper, the bean serializers (and
+     * thus their writers) are the same for every lookup.
+     */
+    private final SimpleLookupCache<ProjectionKey, Projection> projections;
+
+    public OmittableProjectionSerializer(int maxProjections) {
+        super(Projected.class);
+        this.projections = new SimpleLookupCache<>(Math.min(16, maxProjections), maxProjections);
+    }
+
+    @Override
+    public void serialize(Projected value, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        this.writeProjected(value.value(), value.selection(), true, null, g, ctxt);
+    }
+
+    /**
+     * Writes the selected properties of the given value.
+     *
+     * @param isRoot    whether the value is written without a declared type (i.e. as root value or collection element)
+     *                  in which case type information is written based on the runtime type
+     * @param typeSer   the type serializer of the declared type, if any (only used if the value is not a root value)
+     */
+    private void writeProjected(
+        @Nullable Object value,
+        OmittableFieldSelection selection,
+        boolean isRoot,
+        @Nullable TypeSerializer typeSer,
+        JsonGenerator g,
+        SerializationContext ctxt
+    ) throws JacksonException {
+        if (value == null) {
+            ctxt.defaultSerializeNullValue(g);
+            return;
+        } else if (selection.isAll() || ctxt.getActiveView() != null) {
+            writeEntirely(value, isRoot, typeSer, g, ctxt);
+            return;
+        }
+
+        // The selection applies to the elements of collections (e.g. for list endpoints).
+        if (value instanceof Collection<?> collection) {
+            g.writeStartArray(value);
+            for (Object element : collection) this.writeProjected(element, selection, true, null, g, ctxt);
+            g.writeEndArray();
+            return;
+        } else if (value instanceof Object[] array) {
+            g.writeStartArray(value);
+            for (Object element : array) this.writeProjected(element, selection, true, null, g, ctxt);
+            g.writeEndArray();
+            return;
+        }
+
+        Projection projection = this.projectionFor(value.getClass(), selection, ctxt);
+        if (projection == null) {
+            // Values that cannot be projected are written entirely.
+            writeEntirely(value, isRoot, typeSer, g, ctxt);
+            return;
+        }
+
+        if (isRoot) typeSer = projection.typeSerializer();
+
+        WritableTypeId typeIdDef = null;
+        if (typeSer != null) {
+            typeIdDef = typeSer.writeTypePrefix(g, ctxt, typeSer.typeId(value, JsonToken.START_OBJECT));
+        } else {
+            g.writeStartObject(value);
+        }
+
+        BeanPropertyWriter[] writers = projection.writers();
+        OmittableFieldSelection[] nested = projection.nested();
+        TypeSerializer[] nestedTypeSerializers = projection.nestedTypeSerializers();
+        BeanPropertyWriter writer = null;
+
+        try {
+            for (int i = 0; i < writers.length; i++) {
+                writer = writers[i];
+
+                OmittableFieldSelection nestedSelection = nested[i];
+                if (nestedSelection == null) {
+                    writer.serializeAsProperty(value, g, ctxt);
+                    continue;
+                }
+
+                @Nullable Object contents;
+
+                if (writer instanceof OmittableBeanPropertyWriter omittableWriter) {
+                    Object omittable = omittableWriter.read(value);
+                    if (omittable == null || omittable == Omittable.absent()) continue;
+
+                    contents = ((Omittable<?>) omittable).orElseThrow();
+                } else {
+                    contents = writer.get(value);
+                }
+
+                // Null values are left to the writer to honor its null handling (e.g. suppression and null serializers).
+                if (contents == null) {
+                    writer.serializeAsProperty(value, g, ctxt);
+                    continue;
+                }
+
+                g.writeName(writer.getName());
+                this.writeProjected(contents, nestedSelection, false, nestedTypeSerializers[i], g, ctxt);
+            }
+        } catch (JacksonException e) {
+            throw e;
+        } catch (Exception e) {
+            String name = (writer != null) ? writer.getName() : "[unknown]";
+            this.wrapAndThrow(ctxt, e, value, name);
+        }
+
+        if (typeSer != null && typeIdDef != null) {
+            typeSer.writeTypeSuffix(g, ctxt, typeIdDef);
+        } else {
+            g.writeEndObject();
+        }
+    }
+
+    private static void writeEntirely(Object value, boolean isRoot, @Nullable TypeSerializer typeSer, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        if (isRoot || typeSer == null) {
+            ctxt.writeValue(g, value);
+        } else {
+            ctxt.findValueSerializer(value.getClass()).serializeWithType(value, g, ctxt, typeSer);
+        }
+    }
+
+    private @Nullable Projection projectionFor(Class<?> type, OmittableFieldSelection selection, SerializationContext ctxt) {
+        ProjectionKey key = new ProjectionKey(type, selection);
+
+        Projection projection = this.projections.get(key);
+        if (projection != null) return (projection != NOT_A_BEAN) ? projection : null;
+
+        SerializationConfig config = ctxt.getConfig();
+        JavaType javaType = ctxt.constructType(type);
+        ValueSerializer<?> serializer = unwrap(ctxt.findValueSerializer(type));
+
+        /*
+         * Beans with tracked presence, views, or other representations are written by other serializers. Filters may
+         * exclude any property. Neither can be projected.
+         */
+        if (!(serializer instanceof BeanSerializer) || config.getAnnotationIntrospector().findFilterId(config, ctxt.introspectClassAnnotations(javaType)) != null) {
+            this.projections.put(key, NOT_A_BEAN);
+            return null;
+        }
+
+        List<BeanPropertyWriter> writers = new ArrayList<>();
+        List<@Nullable OmittableFieldSelection> nested = new ArrayList<>();
+        List<@Nullable TypeSerializer> nestedTypeSerializers = new ArrayList<>();
+
+        for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+            if (!(it.next() instanceof BeanPropertyWriter writer)) continue;
+
+            OmittableFieldSelection propertySelection = selection.get(writer.getName());
+            if (propertySelection == null) continue;
+
+            writers.add(writer);
+
+            if (propertySelection.isAll()) {
+                nested.add(null);
+                nestedTypeSerializers.add(null);
+            } else {
+                nested.add(propertySelection);
+
+                // The type information of Omittable properties applies to their contents.
+                nestedTypeSerializers.add((writer instanceof OmittableBeanPropertyWriter)
+                    ? ctxt.findTypeSerializer(writer.getType().getContentType())
+                    : writer.getTypeSerializer());
+            }
+        }
+
+        projection = new Projection(
+            ctxt.findTypeSerializer(javaType),
+            writers.toArray(NO_WRITERS),
+            nested.toArray(NO_SELECTIONS),
+            nestedTypeSerializers.toArray(NO_TYPE_SERIALIZERS)
+        );
+
+        this.projections.put(key, projection);
+        return projection;
+    }
+
+    /*
+     * Unwraps the serializers that only change how the properties of a bean are written while a view is active or in
+     * binary formats. Neither applies during projection.
+     */
+    private static ValueSerializer<?> unwrap(ValueSerializer<?> serializer) {
+        while (true) {
+            if (serializer instanceof OmittableViewBeanSerializer viewSerializer) {
+                serializer = viewSerializer.delegate();
+            } else if (serializer instanceof OmittableBitmaskBeanSerializer bitmaskSerializer) {
+                serializer = bitmaskSerializer.delegate();
+            } else {
+                return serializer;
+            }
+        }
+    }
+
+    /**
+     * A value that should be written using the given selection.
+     *
+     * @param value     the value to write
+     * @param selection the selection of properties to write
+     */
+    public record Projected(@Nullable Object value, OmittableFieldSelection selection) {}
+
+    private record ProjectionKey(Class<?> type, OmittableFieldSelection selection) {}
+
+    /*
+     * The type serializer for a bean type, its selected writers, and the selections and type serializers for their
+     * nested properties (or null if a property is selected entirely).
+     */
+    private record Projection(
+        @Nullable TypeSerializer typeSerializer,
+        BeanPropertyWriter[] writers,
+        @Nullable OmittableFieldSelection[] nested,
+        @Nullable TypeSerializer[] nestedTypeSerializers
+    ) {}
+
+}
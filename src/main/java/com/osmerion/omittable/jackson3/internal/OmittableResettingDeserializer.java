@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittablePresence;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.SettableBeanProperty;
+import tools.jackson.databind.deser.bean.BeanDeserializerBase;
+import tools.jackson.databind.deser.std.DelegatingDeserializer;
+import tools.jackson.databind.util.ClassUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A deserializer that resets all {@link Omittable} properties of an instance to their absent value before the
+ * instance is updated.
+ *
+ * <p>This makes sure that properties that are missing from a document do not retain the values of the document that
+ * was previously read into the same instance.</p>
+ */
+final class OmittableResettingDeserializer extends DelegatingDeserializer {
+
+    private record Slot(SettableBeanProperty property, @Nullable Object absentValue) {}
+
+    private volatile Slot @Nullable [] slots;
+
+    OmittableResettingDeserializer(ValueDeserializer<?> delegatee) {
+        super(delegatee);
+    }
+
+    @Override
+    protected ValueDeserializer<?> newDelegatingInstance(ValueDeserializer<?> newDelegatee) {
+        return new OmittableResettingDeserializer(newDelegatee);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws JacksonException {
+        Slot[] slots = this.slots;
+        if (slots == null) this.slots = slots = this.findSlots(ctxt);
+
+        for (Slot slot : slots) {
+            slot.property.set(ctxt, intoValue, slot.absentValue);
+        }
+
+        if (intoValue instanceof OmittablePresence presence) {
+            presence.omittablePresence().clear();
+        }
+
+        return super.deserialize(p, ctxt, intoValue);
+    }
+
+    private Slot[] findSlots(DeserializationContext ctxt) {
+        if (!(_delegatee instanceof BeanDeserializerBase beanDeserializer)) {
+            return ctxt.reportBadDefinition(
+                ctxt.constructType(handledType()),
+                "Cannot reuse instances of " + ClassUtil.nameOf(handledType()) + " since its deserializer ("
+                    + ClassUtil.classNameOf(_delegatee) + ") does not support resetting properties"
+            );
+        }
+
+        List<Slot> slots = new ArrayList<>();
+
+        for (Iterator<SettableBeanProperty> it = beanDeserializer.properties(); it.hasNext(); ) {
+            SettableBeanProperty property = it.next();
+            if (!property.getType().isTypeOrSubTypeOf(Omittable.class)) continue;
+
+            ValueDeserializer<Object> valueDeserializer = property.getValueDeserializer();
+            // The module's deserializer is not asked for its absent value, as it would report a missing creator parameter.
+            Object absentValue = (valueDeserializer != null && !(valueDeserializer instanceof OmittableDeserializer))
+                ? valueDeserializer.getAbsentValue(ctxt)
+                : Omittable.absent();
+
+            slots.add(new Slot(property, absentValue));
+        }
+
+        return slots.toArray(new Slot[0]);
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.deser.ValueDeserializerModifier;
+
+/**
+ * Wraps the deserializer of a single type to reset its {@code Omittable} properties before an instance is updated.
+ *
+ * <p>Deserializers other than bean deserializers are wrapped as well so that reusing instances of such types is
+ * rejected instead of silently retaining the values of previous documents.</p>
+ */
+public final class OmittableResettingDeserializerModifier extends ValueDeserializerModifier {
+
+    private final Class<?> type;
+
+    public OmittableResettingDeserializerModifier(Class<?> type) {
+        this.type = type;
+    }
+
+    @Override
+    public ValueDeserializer<?> modifyDeserializer(
+        DeserializationConfig config,
+        BeanDescription.Supplier beanDesc,
+        ValueDeserializer<?> deserializer
+    ) {
+        if (beanDesc.get().getBeanClass() == this.type) {
+            return new OmittableResettingDeserializer(deserializer);
+        }
+
+        return deserializer;
+    }
+
+}
@@ -16,10 +16,14 @@
 package com.osmerion.omittable.jackson3.internal;
 
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.jdk.BooleanSerializer;
+import tools.jackson.databind.ser.jdk.NumberSerializers;
+import tools.jackson.databind.ser.jdk.StringSerializer;
 import tools.jackson.databind.ser.std.ReferenceTypeSerializer;
 import tools.jackson.databind.type.ReferenceType;
 import tools.jackson.databind.util.NameTransformer;
@@ -28,8 +32,11 @@ import org.jspecify.annotations.Nullable;
 
 public final class OmittableSerializer extends ReferenceTypeSerializer<Omittable<?>> {
 
+    private final ScalarKind scalarKind;
+
     public OmittableSerializer(ReferenceType fullType, boolean staticTyping, @Nullable TypeSerializer vts, ValueSerializer<Object> ser) {
         super(fullType, staticTyping, vts, ser);
+        this.scalarKind = ScalarKind.of(_valueTypeSerializer, _unwrapper, _valueSerializer);
     }
 
     private OmittableSerializer(
@@ -37,6 +44,7 @@ public final class OmittableSerializer extends ReferenceTypeSerializer<Omittable
         NameTransformer unwrapper, Object suppressableValue, boolean suppressNulls
     ) {
         super(base, property, vts, valueSer, unwrapper, suppressableValue, suppressNulls);
+        this.scalarKind = ScalarKind.of(_valueTypeSerializer, _unwrapper, _valueSerializer);
     }
 
     @Override
@@ -51,6 +59,32 @@ public final class OmittableSerializer extends ReferenceTypeSerializer<Omittable
         return new OmittableSerializer(this, _property, _valueTypeSerializer, _valueSerializer, _unwrapper, suppressableValue, suppressNulls);
     }
 
+    @Override
+    public void serialize(Omittable<?> ref, JsonGenerator g, SerializationContext provider) throws JacksonException {
+        /*
+         * If the content is known to be handled by one of Jackson's standard scalar serializers, the value is written
+         * directly. Everything else (including present null values) is left to the generic implementation.
+         */
+        if (this.scalarKind != ScalarKind.NONE && ref.isPresent()) {
+            Object value = ref.orElseThrow();
+
+            if (value != null) {
+                switch (this.scalarKind) {
+                    case STRING -> g.writeString((String) value);
+                    case BOOLEAN -> g.writeBoolean((Boolean) value);
+                    case INT -> g.writeNumber((Integer) value);
+                    case LONG -> g.writeNumber((Long) value);
+                    case DOUBLE -> g.writeNumber((Double) value);
+                    case NONE -> throw new IllegalStateException();
+                }
+
+                return;
+            }
+        }
+
+        super.serialize(ref, g, provider);
+    }
+
     @Override
     public boolean isEmpty(SerializationContext provider, Omittable<?> value) throws JacksonException {
         return value.isAbsent();
@@ -71,4 +105,31 @@ public final class OmittableSerializer extends ReferenceTypeSerializer<Omittable
         return value.isPresent() ? value.orElseThrow() : null;
     }
 
+    private enum ScalarKind {
+        NONE,
+        STRING,
+        BOOLEAN,
+        INT,
+        LONG,
+        DOUBLE;
+
+        /*
+         * The exact serializer classes are checked on purpose: Format overrides (e.g. @JsonFormat(shape = STRING))
+         * replace these serializers during contextualization, which automatically disables the fast path.
+         */
+        static ScalarKind of(@Nullable TypeSerializer vts, @Nullable NameTransformer unwrapper, @Nullable ValueSerializer<?> ser) {
+            if (vts != null || unwrapper != null || ser == null) return NONE;
+
+            Class<?> serClass = ser.getClass();
+            if (serClass == StringSerializer.class) return STRING;
+            if (serClass == BooleanSerializer.class) return BOOLEAN;
+            if (serClass == NumberSerializers.IntegerSerializer.class) return INT;
+            if (serClass == NumberSerializers.LongSerializer.class) return LONG;
+            if (serClass == NumberSerializers.DoubleSerializer.class) return DOUBLE;
+
+            return NONE;
+        }
+
+    }
+
 }
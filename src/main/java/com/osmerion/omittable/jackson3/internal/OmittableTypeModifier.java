@@ -20,28 +20,34 @@ import tools.jackson.databind.type.ReferenceType;
 import tools.jackson.databind.type.TypeBindings;
 import tools.jackson.databind.type.TypeFactory;
 import tools.jackson.databind.type.TypeModifier;
+import tools.jackson.databind.util.SimpleLookupCache;
 import com.osmerion.omittable.Omittable;
 
 import java.lang.reflect.Type;
 
 public final class OmittableTypeModifier extends TypeModifier {
 
+    /*
+     * Upgraded types are shared across all mappers the owning module is registered with so that repeated resolution of
+     * the same type (e.g. by mapper copies) yields a canonical instance. The cache is deliberately not static to avoid
+     * retaining types (and thus their class loaders) beyond the lifetime of the module.
+     */
+    private final SimpleLookupCache<JavaType, JavaType> upgradedTypes = new SimpleLookupCache<>(16, 256);
+
     @Override
     public JavaType modifyType(JavaType type, Type jdkType, TypeBindings context, TypeFactory typeFactory) {
-        if (type.isReferenceType() || type.isContainerType()) {
+        // Fast path: Reject all other types as early as possible.
+        if (type.getRawClass() != Omittable.class || type.isReferenceType()) {
             return type;
         }
 
-        Class<?> raw = type.getRawClass();
-        JavaType refType;
+        JavaType upgradedType = this.upgradedTypes.get(type);
+        if (upgradedType != null) return upgradedType;
 
-        if (raw == Omittable.class) {
-            refType = type.containedTypeOrUnknown(0);
-        } else {
-            return type;
-        }
+        upgradedType = ReferenceType.upgradeFrom(type, type.containedTypeOrUnknown(0));
 
-        return ReferenceType.upgradeFrom(type, refType);
+        JavaType existing = this.upgradedTypes.putIfAbsent(type, upgradedType);
+        return (existing != null) ? existing : upgradedType;
     }
 
 }
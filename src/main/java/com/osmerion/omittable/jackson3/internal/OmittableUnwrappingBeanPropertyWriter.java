@@ -18,15 +18,26 @@ package com.osmerion.omittable.jackson3.internal;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.core.io.SerializedString;
 import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
 import tools.jackson.databind.ser.bean.UnwrappingBeanPropertyWriter;
 import tools.jackson.databind.util.NameTransformer;
 import com.osmerion.omittable.Omittable;
+import com.osmerion.omittable.jackson3.OmittableMetrics;
+import org.jspecify.annotations.Nullable;
 
 public final class OmittableUnwrappingBeanPropertyWriter extends UnwrappingBeanPropertyWriter {
 
-    public OmittableUnwrappingBeanPropertyWriter(BeanPropertyWriter base, NameTransformer transformer) {
+    private final @Nullable OmittableMetrics metrics;
+
+    public OmittableUnwrappingBeanPropertyWriter(
+        BeanPropertyWriter base,
+        NameTransformer transformer,
+        @Nullable OmittableMetrics metrics
+    ) {
         super(base, transformer);
+        this.metrics = metrics;
     }
 
     private OmittableUnwrappingBeanPropertyWriter(
@@ -35,6 +46,7 @@ public final class OmittableUnwrappingBeanPropertyWriter extends UnwrappingBeanP
         SerializedString name
     ) {
         super(base, transformer, name);
+        this.metrics = base.metrics;
     }
 
     @Override
@@ -42,13 +54,47 @@ public final class OmittableUnwrappingBeanPropertyWriter extends UnwrappingBeanP
         return new OmittableUnwrappingBeanPropertyWriter(this, transformer, newName);
     }
 
+    /*
+     * This is a reimplementation of UnwrappingBeanPropertyWriter.serializeAsProperty that reads the property only once.
+     * See OmittableBeanPropertyWriter.serializeAsProperty.
+     */
     @Override
     public void serializeAsProperty(Object bean, JsonGenerator gen, SerializationContext prov) throws Exception {
         Object value = this.get(bean);
-        if (value != null && value.equals(Omittable.absent())) return;
-        if (this._nullSerializer == null && value == null) return;
+        if (value == null) return;
+
+        if (value == Omittable.absent()) {
+            if (this.metrics != null) this.metrics.propertySkipped();
+            return;
+        }
+
+        ValueSerializer<Object> ser = this._serializer;
+        if (ser == null) {
+            Class<?> cls = value.getClass();
+            PropertySerializerMap map = this._dynamicSerializers;
+            ser = map.serializerFor(cls);
+            if (ser == null) ser = this._findAndAddDynamic(map, cls, prov);
+        }
+
+        if (this._suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == this._suppressableValue) {
+                if (ser.isEmpty(prov, value)) return;
+            } else if (this._suppressableValue.equals(value)) {
+                return;
+            }
+        }
+
+        if (!ser.isUnwrappingSerializer()) {
+            gen.writeName(this._name);
+        }
+
+        if (this._typeSerializer == null) {
+            ser.serialize(value, gen, prov);
+        } else {
+            ser.serializeWithType(value, gen, prov, this._typeSerializer);
+        }
 
-        super.serializeAsProperty(bean, gen, prov);
+        if (this.metrics != null) OmittableMetricsSupport.recordWritten(this.metrics, value);
     }
 
 }
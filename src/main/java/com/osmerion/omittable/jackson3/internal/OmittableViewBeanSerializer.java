@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.jsontype.TypeSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.BeanSerializer;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.databind.util.NameTransformer;
+import com.osmerion.omittable.Omittable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A serializer for beans with {@link Omittable} properties and views that visits only the properties that are visible
+ * in the active view.
+ *
+ * <p>For every view, the visible property writers are computed once and cached. This way, view filtering and skipping
+ * absent values happen in a single pass. If no view is active, the wrapped serializer is used.</p>
+ */
+final class OmittableViewBeanSerializer extends StdSerializer<Object> {
+
+    private static final BeanPropertyWriter[] NO_WRITERS = new BeanPropertyWriter[0];
+
+    private final ValueSerializer<Object> delegate;
+
+    private BeanPropertyWriter[] writers = NO_WRITERS;
+    private ConcurrentHashMap<Class<?>, BeanPropertyWriter[]> viewWriters = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    OmittableViewBeanSerializer(ValueSerializer<?> delegate) {
+        super(delegate.handledType());
+        this.delegate = (ValueSerializer<Object>) delegate;
+        this.collectWriters();
+    }
+
+    /**
+     * Returns whether the given serializer has any {@code Omittable} properties and any properties with views.
+     */
+    static boolean hasOmittablePropertiesWithViews(ValueSerializer<?> serializer) {
+        boolean hasOmittables = false, hasViews = false;
+
+        for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+            if (!(it.next() instanceof BeanPropertyWriter writer)) continue;
+
+            if (writer instanceof OmittableBeanPropertyWriter) hasOmittables = true;
+            if (writer.getViews() != null) hasViews = true;
+        }
+
+        return hasOmittables && hasViews;
+    }
+
+    private void collectWriters() {
+        List<BeanPropertyWriter> writers = new ArrayList<>();
+
+        for (Iterator<PropertyWriter> it = this.delegate.properties(); it.hasNext(); ) {
+            if (it.next() instanceof BeanPropertyWriter writer) writers.add(writer);
+        }
+
+        this.writers = writers.toArray(NO_WRITERS);
+        this.viewWriters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void resolve(SerializationContext ctxt) {
+        this.delegate.resolve(ctxt);
+        this.collectWriters();
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext ctxt, BeanProperty property) {
+        ValueSerializer<?> contextual = this.delegate.createContextual(ctxt, property);
+        if (contextual == this.delegate) return this;
+
+        // Other representations (e.g. for @JsonFormat(shape = ARRAY)) are not handled by this serializer.
+        if (!(contextual instanceof BeanSerializer || contextual instanceof OmittablePresenceBeanSerializer)) return contextual;
+
+        return new OmittableViewBeanSerializer(contextual);
+    }
+
+    @Override
+    public ValueSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+        return this.delegate.unwrappingSerializer(unwrapper);
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return this.delegate.usesObjectId();
+    }
+
+    @Override
+    public boolean isEmpty(SerializationContext ctxt, Object value) {
+        return this.delegate.isEmpty(ctxt, value);
+    }
+
+    @Override
+    public Iterator<PropertyWriter> properties() {
+        return this.delegate.properties();
+    }
+
+    /**
+     * Returns the wrapped serializer.
+     */
+    ValueSerializer<Object> delegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public void serialize(Object bean, JsonGenerator g, SerializationContext ctxt) throws JacksonException {
+        Class<?> activeView = ctxt.getActiveView();
+
+        // Formats that cannot omit properties need placeholders for the properties that are not visible.
+        if (activeView == null || this.usesObjectId() || !g.canOmitProperties()) {
+            this.delegate.serialize(bean, g, ctxt);
+            return;
+        }
+
+        BeanPropertyWriter[] writers = this.viewWriters.get(activeView);
+        if (writers == null) writers = this.viewWriters.computeIfAbsent(activeView, view -> this.collectViewWriters(view, ctxt));
+
+        g.writeStartObject(bean);
+        BeanPropertyWriter writer = null;
+
+        try {
+            for (int i = 0; i < writers.length; i++) {
+                writer = writers[i];
+                writer.serializeAsProperty(bean, g, ctxt);
+            }
+        } catch (JacksonException e) {
+            throw e;
+        } catch (Exception e) {
+            String name = (writer != null) ? writer.getName() : "[unknown]";
+            this.wrapAndThrow(ctxt, e, bean, name);
+        }
+
+        g.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator g, SerializationContext ctxt, TypeSerializer typeSer) throws JacksonException {
+        this.delegate.serializeWithType(bean, g, ctxt, typeSer);
+    }
+
+    /*
+     * Collects the writers that are visible in the given view. This mirrors the view handling of Jackson's bean
+     * serializers: Properties without views are visible if DEFAULT_VIEW_INCLUSION is enabled, and other properties are
+     * visible if one of their views is a supertype of the active view.
+     */
+    private BeanPropertyWriter[] collectViewWriters(Class<?> activeView, SerializationContext ctxt) {
+        boolean defaultInclusion = ctxt.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION);
+        List<BeanPropertyWriter> visible = new ArrayList<>();
+
+        for (BeanPropertyWriter writer : this.writers) {
+            Class<?>[] views = writer.getViews();
+
+            if (views == null) {
+                if (defaultInclusion) visible.add(writer);
+                continue;
+            }
+
+            for (Class<?> view : views) {
+                if (view.isAssignableFrom(activeView)) {
+                    visible.add(writer);
+                    break;
+                }
+            }
+        }
+
+        return visible.toArray(NO_WRITERS);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * This sample is compiled into a native image by the "nativeSample" task. It only uses @OmittableJson types so that
+ * no reachability metadata beyond what is shipped with the module and emitted by the annotation processor is
+ * required.
+ */
+public final class OmittableNativeSampleTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    @OmittableJson
+    public static final class SampleDto {
+
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<Integer> count = Omittable.absent();
+        public Omittable<String> description = Omittable.absent();
+
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        SampleDto dto = new SampleDto();
+        dto.name = Omittable.of("Test");
+        dto.description = Omittable.of(null);
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"description\":null}"));
+
+        SampleDto roundTripped = objectMapper.readValue(json, SampleDto.class);
+        assertThat(roundTripped.name).isEqualTo(Omittable.of("Test"));
+        assertThat(roundTripped.count).isEqualTo(Omittable.absent());
+        assertThat(roundTripped.description).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    void shouldDiscoverModule() {
+        ObjectMapper mapper = JsonMapper.builder()
+            .findAndAddModules()
+            .build();
+
+        assertThat(mapper.readValue("{\"count\":3}", SampleDto.class).count).isEqualTo(Omittable.of(3));
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class DeferredValueTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    static class Payload {
+        public String name;
+        public List<Integer> values;
+    }
+
+    static class GatewayDto {
+        public Omittable<DeferredValue<Payload>> payload = Omittable.absent();
+        public Omittable<DeferredValue<Payload>> other = Omittable.absent();
+    }
+
+    @Test
+    void shouldDeferBinding() {
+        GatewayDto dto = objectMapper.readValue("{\"payload\":{\"name\":\"Test\",\"values\":[1,2]},\"other\":null}", GatewayDto.class);
+
+        assertThat(dto.payload.isPresent()).isTrue();
+        assertThat(dto.other).isEqualTo(Omittable.of(null));
+
+        DeferredValue<Payload> deferred = dto.payload.orElseThrow();
+        assertThat(deferred.isBound()).isFalse();
+
+        Payload payload = deferred.bind(objectMapper);
+        assertThat(deferred.isBound()).isTrue();
+        assertThat(payload.name).isEqualTo("Test");
+        assertThat(payload.values).containsExactly(1, 2);
+        assertThat(deferred.bind(objectMapper)).isSameAs(payload);
+    }
+
+    @Test
+    void shouldCopyUnboundTokens() {
+        String json = "{\"payload\":{\"values\":[1,2],\"unknown\":true,\"name\":\"Test\"}}";
+        GatewayDto dto = objectMapper.readValue(json, GatewayDto.class);
+
+        assertThat(objectMapper.writeValueAsString(dto)).isEqualTo(json);
+    }
+
+    @Test
+    void shouldSerializeBoundValues() {
+        GatewayDto dto = objectMapper.readValue("{\"payload\":{\"name\":\"Test\",\"values\":[1]}}", GatewayDto.class);
+        dto.payload.orElseThrow().bind(objectMapper).name = "Changed";
+
+        assertThat(objectMapper.writeValueAsString(dto)).isEqualTo("{\"payload\":{\"name\":\"Changed\",\"values\":[1]}}");
+
+        GatewayDto created = new GatewayDto();
+        created.payload = Omittable.of(DeferredValue.of(null));
+        assertThat(objectMapper.writeValueAsString(created)).isEqualTo("{\"payload\":null}");
+    }
+
+    static class ExtendedPayload extends Payload {
+        public String extra = "extra";
+    }
+
+    @Test
+    void shouldSerializeBoundValuesAsDeclaredType() {
+        ExtendedPayload payload = new ExtendedPayload();
+        payload.name = "Test";
+        payload.values = List.of(1);
+
+        GatewayDto dto = new GatewayDto();
+        dto.payload = Omittable.of(DeferredValue.of(objectMapper.constructType(Payload.class), payload));
+
+        assertThat(objectMapper.writeValueAsString(dto)).isEqualTo("{\"payload\":{\"name\":\"Test\",\"values\":[1]}}");
+    }
+
+}
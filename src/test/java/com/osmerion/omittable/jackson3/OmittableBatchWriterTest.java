@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class OmittableBatchWriterTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    static class Record {
+        public Omittable<Integer> id = Omittable.absent();
+        public Omittable<String> name = Omittable.absent();
+    }
+
+    private static Record record(int i) {
+        Record record = new Record();
+        record.id = Omittable.of(i);
+        if (i % 3 == 0) record.name = Omittable.of(i % 2 == 0 ? null : "n" + i);
+
+        return record;
+    }
+
+    @Test
+    void shouldMatchSequentialSerialization() {
+        List<Record> records = IntStream.range(0, 1000).mapToObj(OmittableBatchWriterTest::record).toList();
+        OmittableBatchWriter writer = new OmittableBatchWriter(objectMapper).withChunkSize(7);
+
+        String json = new String(writer.writeValuesAsBytes(records), StandardCharsets.UTF_8);
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(records));
+    }
+
+    @Test
+    void shouldWriteEmptyArray() {
+        OmittableBatchWriter writer = new OmittableBatchWriter(objectMapper);
+        assertThat(new String(writer.writeValuesAsBytes(List.of()), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    static class Base {
+        public int id;
+    }
+
+    static class Sub extends Base {
+        public String extra = "extra";
+    }
+
+    @Test
+    void shouldUseRootTypeForElements() {
+        Sub sub = new Sub();
+        sub.id = 1;
+
+        OmittableBatchWriter writer = new OmittableBatchWriter(objectMapper.writerFor(Base.class));
+        assertThat(new String(writer.writeValuesAsBytes(List.of(sub, sub)), StandardCharsets.UTF_8)).isEqualTo("[{\"id\":1},{\"id\":1}]");
+    }
+
+    @Test
+    void shouldRejectUnsupportedWriters() {
+        ObjectMapper cborMapper = CBORMapper.builder().addModule(new OmittableModule()).build();
+
+        assertThatThrownBy(() -> new OmittableBatchWriter(cborMapper)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OmittableBatchWriter(objectMapper.writer().with(SerializationFeature.WRAP_ROOT_VALUE))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OmittableBatchWriter(objectMapper.writer().withRootName("root"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static class Failing {
+        public String getValue() {
+            throw new IllegalStateException("failure");
+        }
+    }
+
+    @Test
+    void shouldPropagateFailures() {
+        OmittableBatchWriter writer = new OmittableBatchWriter(objectMapper).withChunkSize(1);
+
+        assertThatThrownBy(() -> writer.writeValuesAsBytes(List.of(new Record(), new Failing(), new Record())))
+            .isNotInstanceOf(java.util.concurrent.CompletionException.class)
+            .hasMessageContaining("failure");
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.exc.InvalidDefinitionException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class OmittableBulkReaderTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    private static final ObjectMapper customMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .addModule(new SimpleModule().addDeserializer(CustomPatch.class, new CustomPatchDeserializer()))
+        .build();
+
+    static class Patch {
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<Integer> count = Omittable.absent();
+    }
+
+    @Test
+    void shouldReadArrayElements() {
+        OmittableBulkReader<Patch> reader = new OmittableBulkReader<>(objectMapper, Patch.class);
+        List<Patch> patches = new ArrayList<>();
+
+        try (MappingIterator<Patch> it = reader.readValues("[{\"name\":\"a\"},{\"count\":1}]")) {
+            while (it.hasNextValue()) patches.add(it.nextValue());
+        }
+
+        assertThat(patches).hasSize(2);
+        assertThat(patches.get(0)).isNotSameAs(patches.get(1));
+        assertThat(patches.get(1).name).isEqualTo(Omittable.absent());
+        assertThat(patches.get(1).count).isEqualTo(Omittable.of(1));
+    }
+
+    @Test
+    void shouldResetReusedInstance() {
+        Patch instance = new Patch();
+        OmittableBulkReader<Patch> reader = new OmittableBulkReader<>(objectMapper, Patch.class).reusing(instance);
+
+        List<String> snapshots = new ArrayList<>();
+
+        try (MappingIterator<Patch> it = reader.readValues("{\"name\":\"a\",\"count\":1}\n{\"count\":null}\n{}")) {
+            while (it.hasNextValue()) {
+                Patch patch = it.nextValue();
+                assertThat(patch).isSameAs(instance);
+
+                snapshots.add(patch.name + "/" + patch.count);
+            }
+        }
+
+        assertThat(snapshots).containsExactly(
+            Omittable.of("a") + "/" + Omittable.of(1),
+            Omittable.absent() + "/" + Omittable.of(null),
+            Omittable.absent() + "/" + Omittable.absent()
+        );
+    }
+
+    @Test
+    void shouldReadArrayFromParser() {
+        Patch instance = new Patch();
+        OmittableBulkReader<Patch> reader = new OmittableBulkReader<>(objectMapper, Patch.class).reusing(instance);
+
+        int count = 0;
+
+        try (JsonParser p = objectMapper.createParser("[{\"name\":\"a\"},{\"count\":2}]");
+             MappingIterator<Patch> it = reader.readValues(p)) {
+            while (it.hasNextValue()) {
+                Patch patch = it.nextValue();
+                if (count++ == 1) {
+                    assertThat(patch.name).isEqualTo(Omittable.absent());
+                    assertThat(patch.count).isEqualTo(Omittable.of(2));
+                }
+            }
+        }
+
+        assertThat(count).isEqualTo(2);
+    }
+
+    static class CustomPatch {
+        public Omittable<String> name = Omittable.absent();
+    }
+
+    @JsonDeserialize(using = AnnotatedPatchDeserializer.class)
+    static class AnnotatedPatch {
+        public Omittable<String> name = Omittable.absent();
+    }
+
+    static final class AnnotatedPatchDeserializer extends StdDeserializer<AnnotatedPatch> {
+
+        AnnotatedPatchDeserializer() {
+            super(AnnotatedPatch.class);
+        }
+
+        @Override
+        public AnnotatedPatch deserialize(JsonParser p, DeserializationContext ctxt) {
+            p.skipChildren();
+            return new AnnotatedPatch();
+        }
+
+    }
+
+    static final class CustomPatchDeserializer extends StdDeserializer<CustomPatch> {
+
+        CustomPatchDeserializer() {
+            super(CustomPatch.class);
+        }
+
+        @Override
+        public CustomPatch deserialize(JsonParser p, DeserializationContext ctxt) {
+            return this.deserialize(p, ctxt, new CustomPatch());
+        }
+
+        @Override
+        public CustomPatch deserialize(JsonParser p, DeserializationContext ctxt, CustomPatch intoValue) {
+            p.skipChildren();
+            return intoValue;
+        }
+
+    }
+
+    @Test
+    void shouldRejectReusedInstancesOfCustomDeserializedTypes() {
+        OmittableBulkReader<CustomPatch> reader = new OmittableBulkReader<>(customMapper, CustomPatch.class).reusing(new CustomPatch());
+
+        assertThatThrownBy(() -> {
+            try (MappingIterator<CustomPatch> it = reader.readValues("{}\n{}")) {
+                while (it.hasNextValue()) it.nextValue();
+            }
+        }).isInstanceOf(InvalidDefinitionException.class);
+    }
+
+    @Test
+    void shouldReadCustomDeserializedTypesWithoutReuse() {
+        OmittableBulkReader<CustomPatch> reader = new OmittableBulkReader<>(customMapper, CustomPatch.class);
+
+        try (MappingIterator<CustomPatch> it = reader.readValues("{}\n{}")) {
+            assertThat(it.readAll()).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldRejectReusedInstancesOfAnnotatedDeserializedTypes() {
+        OmittableBulkReader<AnnotatedPatch> reader = new OmittableBulkReader<>(objectMapper, AnnotatedPatch.class);
+
+        assertThatThrownBy(() -> reader.reusing(new AnnotatedPatch()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectReusedInstancesOfGeneratedTypes() {
+        OmittableBulkReader<OmittableJsonGeneratedTest.GeneratedDto> reader = new OmittableBulkReader<>(objectMapper, OmittableJsonGeneratedTest.GeneratedDto.class);
+
+        assertThatThrownBy(() -> reader.reusing(new OmittableJsonGeneratedTest.GeneratedDto()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldShareReadersForTheSameMapperAndType() {
+        Patch first = new Patch();
+        Patch second = new Patch();
+
+        OmittableBulkReader<Patch> firstReader = new OmittableBulkReader<>(objectMapper, Patch.class).reusing(first);
+        OmittableBulkReader<Patch> secondReader = new OmittableBulkReader<>(objectMapper, Patch.class).reusing(second);
+
+        try (MappingIterator<Patch> it = firstReader.readValues("{\"name\":\"a\"}")) {
+            assertThat(it.nextValue()).isSameAs(first);
+        }
+
+        try (MappingIterator<Patch> it = secondReader.readValues("{\"count\":1}")) {
+            assertThat(it.nextValue()).isSameAs(second);
+        }
+
+        assertThat(first.name).isEqualTo(Omittable.of("a"));
+        assertThat(second.name).isEqualTo(Omittable.absent());
+        assertThat(second.count).isEqualTo(Omittable.of(1));
+    }
+
+}
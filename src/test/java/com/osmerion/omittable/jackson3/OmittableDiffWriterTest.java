@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class OmittableDiffWriterTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    private static final OmittableDiffWriter diffWriter = new OmittableDiffWriter(objectMapper);
+
+    static class Address {
+        public String street = "Main Street";
+        public String city = "Springfield";
+    }
+
+    static class User {
+        public String name = "John Doe";
+        public String email = "john@example.com";
+        public Address address = new Address();
+        public List<String> tags = new ArrayList<>(List.of("a", "b"));
+        public Omittable<String> nickname = Omittable.absent();
+        public Omittable<Address> secondaryAddress = Omittable.of(new Address());
+    }
+
+    @Test
+    void shouldOmitUnchangedProperties() {
+        assertThat(diffWriter.writeDiffAsString(new User(), new User())).isEqualTo("{}");
+    }
+
+    @Test
+    void shouldWriteChangedProperties() {
+        User newUser = new User();
+        newUser.name = "Jane Doe";
+        newUser.email = null;
+        newUser.tags.add("c");
+        newUser.nickname = Omittable.of("Jane");
+
+        assertThat(objectMapper.readTree(diffWriter.writeDiffAsString(new User(), newUser)))
+            .isEqualTo(objectMapper.readTree("{\"name\":\"Jane Doe\",\"email\":null,\"tags\":[\"a\",\"b\",\"c\"],\"nickname\":\"Jane\"}"));
+    }
+
+    @Test
+    void shouldWriteRemovedOmittablesAsNull() {
+        User oldUser = new User();
+        oldUser.nickname = Omittable.of("John");
+
+        User newUser = new User();
+        newUser.secondaryAddress = Omittable.absent();
+
+        assertThat(diffWriter.writeDiffAsString(oldUser, newUser)).isEqualTo("{\"nickname\":null,\"secondaryAddress\":null}");
+    }
+
+    @Test
+    void shouldDiffNestedObjects() {
+        User newUser = new User();
+        newUser.address.city = "Shelbyville";
+        newUser.secondaryAddress.orElseThrow().street = "Evergreen Terrace";
+
+        assertThat(diffWriter.writeDiffAsString(new User(), newUser))
+            .isEqualTo("{\"address\":{\"city\":\"Shelbyville\"},\"secondaryAddress\":{\"street\":\"Evergreen Terrace\"}}");
+    }
+
+    @Test
+    void shouldRoundTripThroughPatcher() {
+        User oldUser = new User();
+        User newUser = new User();
+        newUser.name = "Jane Doe";
+        newUser.address.street = "Evergreen Terrace";
+
+        User patched = new OmittablePatcher(objectMapper).apply(new User(), diffWriter.writeDiffAsBytes(oldUser, newUser));
+        assertThat(patched.name).isEqualTo("Jane Doe");
+        assertThat(patched.address.street).isEqualTo("Evergreen Terrace");
+        assertThat(patched.address.city).isEqualTo("Springfield");
+    }
+
+    @Test
+    void shouldRejectDifferentClasses() {
+        assertThatThrownBy(() -> diffWriter.writeDiffAsString(new User(), new Address()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static class Inner {
+        public String value = "value";
+    }
+
+    static class Middle {
+        public Inner inner = new Inner();
+    }
+
+    static class Outer {
+        public Omittable<Middle> middle = Omittable.of(new Middle());
+    }
+
+    @Test
+    void shouldOmitUnchangedDeeplyNestedObjects() {
+        assertThat(diffWriter.writeDiffAsString(new Outer(), new Outer())).isEqualTo("{}");
+
+        Outer newOuter = new Outer();
+        newOuter.middle.orElseThrow().inner.value = "changed";
+
+        assertThat(diffWriter.writeDiffAsString(new Outer(), newOuter)).isEqualTo("{\"middle\":{\"inner\":{\"value\":\"changed\"}}}");
+    }
+
+    static class ArrayShaped {
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public Address address = new Address();
+    }
+
+    @Test
+    void shouldWriteNestedObjectsWithOtherShapesAsAWhole() {
+        ArrayShaped newValue = new ArrayShaped();
+        newValue.address.city = "Shelbyville";
+
+        // The order of the elements depends on the property order of the mapper.
+        assertThat(diffWriter.writeDiffAsString(new ArrayShaped(), newValue)).isEqualTo(objectMapper.writeValueAsString(newValue));
+    }
+
+    static class ArrayHolder {
+        public byte[] data = { 1, 2, 3 };
+        public String[] names = { "a", "b" };
+        public Omittable<int[]> values = Omittable.of(new int[] { 1 });
+    }
+
+    @Test
+    void shouldCompareArraysByContents() {
+        assertThat(diffWriter.writeDiffAsString(new ArrayHolder(), new ArrayHolder())).isEqualTo("{}");
+
+        ArrayHolder newValue = new ArrayHolder();
+        newValue.names[1] = "c";
+
+        assertThat(diffWriter.writeDiffAsString(new ArrayHolder(), newValue)).isEqualTo("{\"names\":[\"a\",\"c\"]}");
+    }
+
+}
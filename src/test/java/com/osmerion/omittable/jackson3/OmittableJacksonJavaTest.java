@@ -15,22 +15,32 @@
  */
 package com.osmerion.omittable.jackson3;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonMerge;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.annotation.JsonView;
 import com.osmerion.omittable.Omittable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.exc.MismatchedInputException;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public final class OmittableJacksonJavaTest {
 
@@ -163,6 +173,98 @@ public final class OmittableJacksonJavaTest {
         assertThat(json).contains("\"nullable_value\":\"test\"");
     }
 
+    @Test
+    void shouldSerializeWithGeneratedAccessors() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_GENERATED_ACCESSORS))
+            .build();
+
+        TestDto dto = new TestDto();
+        dto.setName(Omittable.of("Test"));
+        dto.setNullableValue(Omittable.of(null));
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(json).isEqualTo("{\"name\":\"Test\",\"nullableValue\":null}");
+    }
+
+    @Test
+    void shouldRecordMetrics() {
+        CountingOmittableMetrics metrics = new CountingOmittableMetrics();
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().withMetrics(metrics))
+            .build();
+
+        TestDto dto = new TestDto();
+        dto.setName(Omittable.of("Test"));
+        dto.setNullableValue(Omittable.of(null));
+        objectMapper.writeValueAsString(dto);
+
+        assertThat(metrics.getPropertiesWritten()).isEqualTo(1);
+        assertThat(metrics.getNullsWritten()).isEqualTo(1);
+        assertThat(metrics.getPropertiesSkipped()).isEqualTo(1);
+        assertThat(metrics.getSerializerConstructions(TestDto.class)).isEqualTo(1);
+
+        objectMapper.readValue("{\"name\":\"Test\",\"nullableValue\":null}", TestDto.class);
+
+        assertThat(metrics.getDeserializedPresent()).isEqualTo(1);
+        assertThat(metrics.getDeserializedNull()).isEqualTo(1);
+    }
+
+    static class ScalarDto {
+        public Omittable<Integer> intValue = Omittable.absent();
+        public Omittable<Long> longValue = Omittable.absent();
+        public Omittable<Double> doubleValue = Omittable.absent();
+        public Omittable<Boolean> booleanValue = Omittable.absent();
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldDeserializeScalarValuesCorrectly(ObjectMapper objectMapper) {
+        String json = "{\"intValue\":2000,\"longValue\":9007199254740993,\"doubleValue\":1,\"booleanValue\":false}";
+        ScalarDto dto = objectMapper.readValue(json, ScalarDto.class);
+
+        assertThat(dto.intValue).isEqualTo(Omittable.of(2000));
+        assertThat(dto.longValue).isEqualTo(Omittable.of(9007199254740993L));
+        assertThat(dto.doubleValue).isEqualTo(Omittable.of(1.0));
+        assertThat(dto.booleanValue).isEqualTo(Omittable.of(false));
+
+        json = "{\"intValue\":null,\"longValue\":1,\"doubleValue\":0.5}";
+        dto = objectMapper.readValue(json, ScalarDto.class);
+
+        assertThat(dto.intValue).isEqualTo(Omittable.of(null));
+        assertThat(dto.longValue).isEqualTo(Omittable.of(1L));
+        assertThat(dto.doubleValue).isEqualTo(Omittable.of(0.5));
+        assertThat(dto.booleanValue).isEqualTo(Omittable.absent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldSerializeScalarValuesCorrectly(ObjectMapper objectMapper) {
+        ScalarDto dto = new ScalarDto();
+        dto.intValue = Omittable.of(2000);
+        dto.longValue = Omittable.of(9007199254740993L);
+        dto.doubleValue = Omittable.of(0.5);
+        dto.booleanValue = Omittable.of(null);
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"intValue\":2000,\"longValue\":9007199254740993,\"doubleValue\":0.5,\"booleanValue\":null}"));
+    }
+
+    static class FormattedDto {
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        public Omittable<Integer> value = Omittable.absent();
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldRespectFormatOverridesForScalarValues(ObjectMapper objectMapper) {
+        FormattedDto dto = new FormattedDto();
+        dto.value = Omittable.of(42);
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(json).isEqualTo("{\"value\":\"42\"}");
+    }
+
     static class CollectionDto {
         private Omittable<java.util.List<String>> items = Omittable.absent();
         public Omittable<java.util.List<String>> getItems() { return items; }
@@ -199,6 +301,37 @@ public final class OmittableJacksonJavaTest {
         assertThat(json).isEqualTo("{\"nested\":{}}");
     }
 
+    static class MergeDto {
+        @JsonMerge
+        public Omittable<TestDto> nested = Omittable.absent();
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldUpdatePresentValuesInPlace(ObjectMapper objectMapper) {
+        TestDto nested = new TestDto();
+        nested.setName(Omittable.of("Test"));
+
+        MergeDto dto = new MergeDto();
+        dto.nested = Omittable.of(nested);
+        Omittable<TestDto> reference = dto.nested;
+
+        objectMapper.readerForUpdating(dto).readValue("{\"nested\":{\"count\":123}}");
+
+        assertThat(dto.nested).isSameAs(reference);
+        assertThat(nested.getName()).isEqualTo(Omittable.of("Test"));
+        assertThat(nested.getCount()).isEqualTo(Omittable.of(123));
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldReplaceAbsentValuesWhenUpdating(ObjectMapper objectMapper) {
+        MergeDto dto = new MergeDto();
+        objectMapper.readerForUpdating(dto).readValue("{\"nested\":{\"count\":123}}");
+
+        assertThat(dto.nested.orElseThrow().getCount()).isEqualTo(Omittable.of(123));
+    }
+
     // This test ensures that findReferenceSerializer passed the TypeSerializer correctly
     static class PolyDto {
         private Omittable<? extends Shape> shape = Omittable.absent();
@@ -237,4 +370,244 @@ public final class OmittableJacksonJavaTest {
         assertThat(javaType.getReferencedType().getRawClass()).isEqualTo(String.class);
     }
 
+    @Test
+    void shouldReturnCanonicalReferenceTypes() {
+        java.lang.reflect.Type type = new TypeReference<Omittable<String>>() {}.getType();
+
+        OmittableModule module = new OmittableModule();
+
+        JavaType first = JsonMapper.builder().addModule(module).build().getTypeFactory().constructType(type);
+        JavaType second = JsonMapper.builder().addModule(module).build().getTypeFactory().constructType(type);
+
+        assertThat(first.isReferenceType()).isTrue();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldNotShareReferenceTypesAcrossModules() {
+        java.lang.reflect.Type type = new TypeReference<Omittable<String>>() {}.getType();
+
+        JavaType first = JsonMapper.builder().addModule(new OmittableModule()).build().getTypeFactory().constructType(type);
+        JavaType second = JsonMapper.builder().addModule(new OmittableModule()).build().getTypeFactory().constructType(type);
+
+        assertThat(first.isReferenceType()).isTrue();
+        assertThat(second.isReferenceType()).isTrue();
+        assertThat(second).isNotSameAs(first);
+    }
+
+    record RecordDto(Omittable<String> name, Omittable<Integer> count, String plain) {}
+
+    static final class CreatorDto {
+
+        final Omittable<String> name;
+        final Omittable<String> required;
+
+        @JsonCreator
+        CreatorDto(@JsonProperty("name") Omittable<String> name, @JsonProperty(value = "required", required = true) Omittable<String> required) {
+            this.name = name;
+            this.required = required;
+        }
+
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldDeserializeRecords(ObjectMapper objectMapper) {
+        RecordDto dto = objectMapper.readValue("{\"count\":null,\"plain\":\"value\"}", RecordDto.class);
+
+        assertThat(dto.name()).isSameAs(Omittable.absent());
+        assertThat(dto.count()).isEqualTo(Omittable.of(null));
+        assertThat(dto.plain()).isEqualTo("value");
+
+        dto = objectMapper.readValue("{\"name\":\"Test\"}", RecordDto.class);
+
+        assertThat(dto.name()).isEqualTo(Omittable.of("Test"));
+        assertThat(dto.count()).isSameAs(Omittable.absent());
+        assertThat(dto.plain()).isNull();
+    }
+
+    @Test
+    void shouldRespectRequiredCreatorProperties() {
+        assertThatThrownBy(() -> manualMapper.readValue("{\"name\":\"Test\"}", CreatorDto.class))
+            .isInstanceOf(MismatchedInputException.class);
+
+        CreatorDto dto = manualMapper.readValue("{\"required\":null}", CreatorDto.class);
+        assertThat(dto.name).isSameAs(Omittable.absent());
+        assertThat(dto.required).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    void shouldRecordAbsentCreatorParameters() {
+        CountingOmittableMetrics metrics = new CountingOmittableMetrics();
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().withMetrics(metrics))
+            .build();
+
+        objectMapper.readValue("{\"name\":\"Test\"}", RecordDto.class);
+
+        assertThat(metrics.getDeserializedPresent()).isEqualTo(1);
+        assertThat(metrics.getDeserializedAbsentCreatorParameters()).isEqualTo(1);
+
+        // Missing properties that are not creator parameters keep their initial values and are not reported.
+        objectMapper.readValue("{}", TestDto.class);
+        assertThat(metrics.getDeserializedAbsentCreatorParameters()).isEqualTo(1);
+    }
+
+    static class InclusionDto {
+        public Omittable<String> name = Omittable.of(null);
+        public Omittable<String> description = null;
+
+        @JsonOmittableInclusion(presentNull = OmittableInclusion.PresentNull.WRITE, rawNull = OmittableInclusion.RawNull.WRITE)
+        public Omittable<String> comment = Omittable.of(null);
+    }
+
+    @JsonOmittableInclusion(presentNull = OmittableInclusion.PresentNull.OMIT)
+    static class AnnotatedInclusionDto {
+        public Omittable<String> name = Omittable.of(null);
+        public Omittable<String> description = Omittable.of("Test");
+    }
+
+    @Test
+    void shouldApplyDefaultInclusion() {
+        String json = manualMapper.writeValueAsString(new InclusionDto());
+        assertThat(manualMapper.readTree(json)).isEqualTo(manualMapper.readTree("{\"name\":null,\"description\":null,\"comment\":null}"));
+    }
+
+    @Test
+    void shouldApplyGlobalInclusion() {
+        CountingOmittableMetrics metrics = new CountingOmittableMetrics();
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule()
+                .withMetrics(metrics)
+                .withInclusion(new OmittableInclusion(OmittableInclusion.PresentNull.OMIT, OmittableInclusion.RawNull.OMIT)))
+            .build();
+
+        String json = objectMapper.writeValueAsString(new InclusionDto());
+        assertThat(json).isEqualTo("{\"comment\":null}");
+        assertThat(metrics.getPropertiesSkipped()).isEqualTo(2);
+        assertThat(metrics.getNullsWritten()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyTypeInclusion() {
+        String json = manualMapper.writeValueAsString(new AnnotatedInclusionDto());
+        assertThat(json).isEqualTo("{\"description\":\"Test\"}");
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule()
+                .withInclusion(AnnotatedInclusionDto.class, new OmittableInclusion(OmittableInclusion.PresentNull.WRITE, OmittableInclusion.RawNull.DEFAULT)))
+            .build();
+
+        json = objectMapper.writeValueAsString(new AnnotatedInclusionDto());
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"name\":null,\"description\":\"Test\"}"));
+    }
+
+    static class ContainerDto {
+        public java.util.Map<String, Omittable<Integer>> attributes;
+        public java.util.List<Omittable<String>> values;
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldSkipAbsentContainerElements(ObjectMapper objectMapper) {
+        ContainerDto dto = new ContainerDto();
+        dto.attributes = new java.util.LinkedHashMap<>();
+        dto.attributes.put("a", Omittable.of(1));
+        dto.attributes.put("b", Omittable.absent());
+        dto.attributes.put("c", Omittable.of(null));
+        dto.values = java.util.Arrays.asList(Omittable.of("x"), Omittable.absent(), Omittable.of(null));
+
+        // Absent list elements are written as null to preserve the indices of the other elements.
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(json).isEqualTo("{\"attributes\":{\"a\":1,\"c\":null},\"values\":[\"x\",null,null]}");
+    }
+
+    static class AnnotatedContainerDto {
+        @JsonInclude(content = JsonInclude.Include.NON_NULL)
+        public java.util.Map<String, Omittable<Integer>> nonNull;
+
+        @JsonIgnoreProperties("b")
+        public java.util.Map<String, Omittable<Integer>> ignoring;
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldHonorMapAnnotations(ObjectMapper objectMapper) {
+        java.util.Map<String, Omittable<Integer>> map = new java.util.LinkedHashMap<>();
+        map.put("a", Omittable.of(1));
+        map.put("b", Omittable.of(2));
+        map.put("c", null);
+
+        AnnotatedContainerDto dto = new AnnotatedContainerDto();
+        dto.nonNull = map;
+        dto.ignoring = map;
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"nonNull\":{\"a\":1,\"b\":2},\"ignoring\":{\"a\":1,\"c\":null}}"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldDeserializeContainers(ObjectMapper objectMapper) {
+        ContainerDto dto = objectMapper.readValue("{\"attributes\":{\"a\":1,\"c\":null},\"values\":[\"x\",null]}", ContainerDto.class);
+
+        assertThat(dto.attributes).containsExactly(
+            java.util.Map.entry("a", Omittable.of(1)),
+            java.util.Map.entry("c", Omittable.of(null))
+        );
+        assertThat(dto.values).containsExactly(Omittable.of("x"), Omittable.of(null));
+
+        java.util.Map<String, Omittable<String>> map = objectMapper.readValue("{\"k\":\"v\"}", new TypeReference<java.util.Map<String, Omittable<String>>>() {});
+        assertThat(map).containsExactly(java.util.Map.entry("k", Omittable.of("v")));
+    }
+
+    interface PublicView {}
+    interface InternalView extends PublicView {}
+
+    static class ViewDto {
+        @JsonView(PublicView.class)
+        public Omittable<String> name = Omittable.of("Test");
+
+        @JsonView(InternalView.class)
+        public Omittable<String> secret = Omittable.of("secret");
+
+        @JsonView(InternalView.class)
+        public Omittable<String> note = Omittable.absent();
+
+        public String plain = "plain";
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldApplyViews(ObjectMapper objectMapper) {
+        ViewDto dto = new ViewDto();
+
+        assertThat(objectMapper.readTree(objectMapper.writerWithView(PublicView.class).writeValueAsString(dto))).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"plain\":\"plain\"}"));
+        assertThat(objectMapper.readTree(objectMapper.writerWithView(InternalView.class).writeValueAsString(dto))).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"secret\":\"secret\",\"plain\":\"plain\"}"));
+        assertThat(objectMapper.readTree(objectMapper.writerWithView(PublicView.class).writeValueAsString(dto))).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"plain\":\"plain\"}"));
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(dto))).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"secret\":\"secret\",\"plain\":\"plain\"}"));
+    }
+
+    static class ArrayShapedViewHolder {
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public ViewDto dto = new ViewDto();
+    }
+
+    @ParameterizedTest
+    @MethodSource("objectMapper")
+    void shouldKeepOtherShapesWithViews(ObjectMapper objectMapper) {
+        String json = objectMapper.writerWithView(PublicView.class).writeValueAsString(new ArrayShapedViewHolder());
+        assertThat(json).startsWith("{\"dto\":[\"Test\",");
+    }
+
+    @Test
+    void shouldApplyViewsWithoutDefaultInclusion() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+            .build();
+
+        assertThat(objectMapper.writerWithView(PublicView.class).writeValueAsString(new ViewDto())).isEqualTo("{\"name\":\"Test\"}");
+    }
+
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittableJsonGeneratedTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    @OmittableJson
+    static class GeneratedDto {
+
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<Integer> count = Omittable.absent();
+        public int version;
+
+        @JsonProperty("tag_list")
+        public Omittable<List<String>> tags = Omittable.absent();
+
+        @JsonIgnore
+        public String ignored = "ignored";
+
+        private Omittable<String> description = Omittable.absent();
+
+        public Omittable<String> getDescription() { return this.description; }
+        public void setDescription(Omittable<String> description) { this.description = description; }
+
+    }
+
+    @Test
+    void shouldUseGeneratedSerializers() {
+        GeneratedDto dto = new GeneratedDto();
+        dto.name = Omittable.of("Test");
+        dto.tags = Omittable.of(List.of("a"));
+        dto.setDescription(Omittable.of(null));
+
+        assertThat(objectMapper.serializationContext().findValueSerializer(GeneratedDto.class)).isInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonSerializer.class);
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"version\":0,\"tag_list\":[\"a\"],\"description\":null}"));
+    }
+
+    @Test
+    void shouldWritePropertiesInConfiguredOrder() {
+        ObjectMapper sortingMapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+        ObjectMapper declarationOrderMapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+
+        GeneratedDto dto = new GeneratedDto();
+        dto.name = Omittable.of("Test");
+        dto.tags = Omittable.of(List.of("a"));
+        dto.setDescription(Omittable.of(null));
+
+        assertThat(sortingMapper.serializationContext().findValueSerializer(GeneratedDto.class)).isInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonSerializer.class);
+        assertThat(declarationOrderMapper.serializationContext().findValueSerializer(GeneratedDto.class)).isInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonSerializer.class);
+
+        assertThat(sortingMapper.writeValueAsString(dto)).isEqualTo("{\"description\":null,\"name\":\"Test\",\"tag_list\":[\"a\"],\"version\":0}");
+        assertThat(declarationOrderMapper.writeValueAsString(dto)).isEqualTo("{\"name\":\"Test\",\"version\":0,\"tag_list\":[\"a\"],\"description\":null}");
+    }
+
+    @Test
+    void shouldUseGeneratedDeserializers() {
+        DeserializationContext ctxt = objectMapper.deserializationContext();
+        assertThat(ctxt.findRootValueDeserializer(ctxt.constructType(GeneratedDto.class))).isInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonDeserializer.class);
+
+        GeneratedDto dto = objectMapper.readValue("{\"name\":\"Test\",\"tag_list\":[\"a\"],\"description\":null,\"version\":3}", GeneratedDto.class);
+
+        assertThat(dto.name).isEqualTo(Omittable.of("Test"));
+        assertThat(dto.count).isEqualTo(Omittable.absent());
+        assertThat(dto.tags).isEqualTo(Omittable.of(List.of("a")));
+        assertThat(dto.getDescription()).isEqualTo(Omittable.of(null));
+        assertThat(dto.version).isEqualTo(3);
+    }
+
+    @Test
+    void shouldGenerateClasses() throws ClassNotFoundException {
+        assertThat(Class.forName("com.osmerion.omittable.jackson3.OmittableJsonGeneratedTest_GeneratedDto" + OmittableJson.SERIALIZER_SUFFIX)).isNotNull();
+        assertThat(Class.forName("com.osmerion.omittable.jackson3.OmittableJsonGeneratedTest_GeneratedDto" + OmittableJson.DESERIALIZER_SUFFIX)).isNotNull();
+        assertThat(Class.forName("com.osmerion.omittable.jackson3.OmittableJsonGeneratedTest_GeneratedDto" + OmittableJson.TREE_CODEC_SUFFIX)).isNotNull();
+    }
+
+    @Test
+    void shouldConvertToTree() {
+        GeneratedDto dto = new GeneratedDto();
+        dto.name = Omittable.of("Test");
+        dto.tags = Omittable.of(List.of("a"));
+        dto.setDescription(Omittable.of(null));
+
+        OmittableTreeConverter converter = new OmittableTreeConverter(objectMapper);
+        assertThat(converter.findCodec(GeneratedDto.class, true)).isInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonTreeCodec.class);
+
+        ObjectNode node = converter.valueToTree(dto);
+        assertThat(node).isEqualTo(objectMapper.readTree("{\"name\":\"Test\",\"version\":0,\"tag_list\":[\"a\"],\"description\":null}"));
+    }
+
+    @Test
+    void shouldConvertFromTree() {
+        ObjectNode node = (ObjectNode) objectMapper.readTree("{\"name\":\"Test\",\"tag_list\":[\"a\"],\"description\":null,\"version\":3}");
+        OmittableTreeConverter converter = new OmittableTreeConverter(objectMapper);
+        assertThat(converter.findCodec(GeneratedDto.class, false)).isInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonTreeCodec.class);
+
+        GeneratedDto dto = converter.treeToValue(node, GeneratedDto.class);
+
+        assertThat(dto.name).isEqualTo(Omittable.of("Test"));
+        assertThat(dto.count).isEqualTo(Omittable.absent());
+        assertThat(dto.tags).isEqualTo(Omittable.of(List.of("a")));
+        assertThat(dto.getDescription()).isEqualTo(Omittable.of(null));
+        assertThat(dto.version).isEqualTo(3);
+    }
+
+    @Test
+    void shouldSkipIgnoredProperties() {
+        GeneratedDto dto = objectMapper.readValue("{\"ignored\":\"value\",\"name\":\"Test\"}", GeneratedDto.class);
+
+        assertThat(dto.name).isEqualTo(Omittable.of("Test"));
+        assertThat(dto.ignored).isEqualTo("ignored");
+    }
+
+    @Test
+    void shouldUpdateExistingInstances() {
+        GeneratedDto dto = new GeneratedDto();
+        dto.name = Omittable.of("Test");
+
+        GeneratedDto result = objectMapper.readerForUpdating(dto).readValue("{\"count\":42}");
+
+        assertThat(result).isSameAs(dto);
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.count).isEqualTo(Omittable.of(42));
+    }
+
+    @Test
+    void shouldFallBackForNamingStrategies() {
+        ObjectMapper upperCamelCaseMapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .propertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+            .build();
+
+        GeneratedDto dto = new GeneratedDto();
+        dto.name = Omittable.of("Test");
+
+        assertThat(upperCamelCaseMapper.serializationContext().findValueSerializer(GeneratedDto.class)).isNotInstanceOf(OmittableJsonGeneratedTest_GeneratedDto_OmittableJsonSerializer.class);
+        assertThat(upperCamelCaseMapper.writeValueAsString(dto)).isEqualTo("{\"Name\":\"Test\",\"Version\":0}");
+        assertThat(upperCamelCaseMapper.readValue("{\"Name\":\"Test\"}", GeneratedDto.class).name).isEqualTo(Omittable.of("Test"));
+    }
+
+    @Test
+    void shouldConvertTreesWithMapperForNamingStrategies() {
+        ObjectMapper upperCamelCaseMapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .propertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+            .build();
+
+        OmittableTreeConverter converter = new OmittableTreeConverter(upperCamelCaseMapper);
+        assertThat(converter.findCodec(GeneratedDto.class, true)).isNull();
+        assertThat(converter.findCodec(GeneratedDto.class, false)).isNull();
+
+        GeneratedDto dto = new GeneratedDto();
+        dto.name = Omittable.of("Test");
+
+        assertThat(converter.valueToTree(dto)).isEqualTo(upperCamelCaseMapper.readTree("{\"Name\":\"Test\",\"Version\":0}"));
+        assertThat(converter.treeToValue((ObjectNode) upperCamelCaseMapper.readTree("{\"Name\":\"Test\"}"), GeneratedDto.class).name).isEqualTo(Omittable.of("Test"));
+    }
+
+    @Test
+    void shouldConvertTreesWithIgnoredProperties() {
+        ObjectNode node = (ObjectNode) objectMapper.readTree("{\"name\":\"Test\",\"ignored\":\"value\"}");
+        GeneratedDto dto = new OmittableTreeConverter(objectMapper).treeToValue(node, GeneratedDto.class);
+
+        assertThat(dto.name).isEqualTo(Omittable.of("Test"));
+        assertThat(dto.ignored).isEqualTo("ignored");
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittableMetricsTest {
+
+    static class Dto {
+        public Omittable<String> name = Omittable.of("Test");
+        public Omittable<String> absent = Omittable.absent();
+        public Map<String, String> attributes = Map.of("k", "v");
+        public List<String> tags = List.of("a");
+    }
+
+    @Test
+    void shouldReportConstructedBeanSerializersOnly() {
+        List<Class<?>> constructed = new CopyOnWriteArrayList<>();
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().withMetrics(new OmittableMetrics() {
+
+                @Override
+                public void serializerConstructed(Class<?> beanType, long nanos) {
+                    assertThat(nanos).isNotNegative();
+                    constructed.add(beanType);
+                }
+
+            }))
+            .build();
+
+        objectMapper.writeValueAsString(new Dto());
+        assertThat(constructed).containsExactly(Dto.class);
+    }
+
+}
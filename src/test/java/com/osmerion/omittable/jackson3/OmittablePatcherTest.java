@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittablePatcherTest {
+
+    private static final OmittablePatcher patcher = new OmittablePatcher(
+        JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .build()
+    );
+
+    static class Address {
+        public String street = "Main Street";
+        public String city = "Springfield";
+    }
+
+    static class User {
+        public String name = "John Doe";
+        public String email = "john@example.com";
+        public Address address = new Address();
+        public List<String> tags = new ArrayList<>(List.of("a", "b"));
+        public Omittable<Address> secondaryAddress = Omittable.of(new Address());
+    }
+
+    static class Containers {
+        public ArrayList<String> list = new ArrayList<>(List.of("a", "b"));
+        public String[] array = { "a", "b" };
+        public Map<String, String> map = new HashMap<>(Map.of("k", "v", "other", "value"));
+        public Map<String, List<String>> listMap = new HashMap<>(Map.of("k", List.of("v")));
+        public Omittable<List<String>> omittableList = Omittable.of(new ArrayList<>(List.of("a")));
+    }
+
+    @Test
+    void shouldOnlyUpdatePresentProperties() {
+        User user = new User();
+        User patched = patcher.apply(user, "{\"name\":\"Jane Doe\",\"email\":null}");
+
+        assertThat(patched).isSameAs(user);
+        assertThat(user.name).isEqualTo("Jane Doe");
+        assertThat(user.email).isNull();
+        assertThat(user.address.street).isEqualTo("Main Street");
+    }
+
+    @Test
+    void shouldMergeNestedObjects() {
+        User user = new User();
+        Address address = user.address;
+
+        patcher.apply(user, "{\"address\":{\"city\":\"Shelbyville\"},\"secondaryAddress\":{\"street\":\"Side Street\"}}");
+
+        assertThat(user.address).isSameAs(address);
+        assertThat(user.address.street).isEqualTo("Main Street");
+        assertThat(user.address.city).isEqualTo("Shelbyville");
+
+        assertThat(user.secondaryAddress.orElseThrow().street).isEqualTo("Side Street");
+        assertThat(user.secondaryAddress.orElseThrow().city).isEqualTo("Springfield");
+    }
+
+    @Test
+    void shouldReplaceCollections() {
+        User user = new User();
+        patcher.apply(user, "{\"tags\":[\"c\"]}");
+
+        assertThat(user.tags).containsExactly("c");
+    }
+
+    @Test
+    void shouldSetOmittablesToPresentNull() {
+        User user = new User();
+        patcher.apply(user, "{\"secondaryAddress\":null}");
+
+        assertThat(user.secondaryAddress).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    void shouldReplaceConcreteCollectionsAndArrays() {
+        Containers containers = new Containers();
+        patcher.apply(containers, "{\"list\":[\"c\"],\"array\":[\"c\"],\"omittableList\":[\"c\"]}");
+
+        assertThat(containers.list).containsExactly("c");
+        assertThat(containers.array).containsExactly("c");
+        assertThat(containers.omittableList.orElseThrow()).containsExactly("c");
+    }
+
+    @Test
+    void shouldRemoveNullMapMembers() {
+        Containers containers = new Containers();
+        patcher.apply(containers, "{\"map\":{\"k\":null,\"new\":\"value\"}}");
+
+        assertThat(containers.map).containsOnly(Map.entry("other", "value"), Map.entry("new", "value"));
+    }
+
+    @Test
+    void shouldRemoveTrailingNullMapMembers() {
+        Containers containers = new Containers();
+        patcher.apply(containers, "{\"map\":{\"new\":\"value\",\"k\":null,\"other\":null}}");
+
+        assertThat(containers.map).containsOnly(Map.entry("new", "value"));
+    }
+
+    @Test
+    void shouldKeepNestedNulls() {
+        Containers containers = new Containers();
+        patcher.apply(containers, "{\"listMap\":{\"k\":null,\"new\":[\"a\",null]}}");
+
+        assertThat(containers.listMap).containsOnlyKeys("new");
+        assertThat(containers.listMap.get("new")).containsExactly("a", null);
+    }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.exc.MismatchedInputException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class OmittablePresenceBitmaskTest {
+
+    private static final ObjectMapper bitmaskMapper = CBORMapper.builder()
+        .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS))
+        .build();
+
+    private static final ObjectMapper objectMapper = CBORMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    static class Nested {
+        public Omittable<String> value = Omittable.absent();
+    }
+
+    static class Dto {
+        public int version;
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<Integer> count = Omittable.absent();
+        public Omittable<String> description = Omittable.absent();
+        public Omittable<List<String>> tags = Omittable.absent();
+        public Omittable<Nested> nested = Omittable.absent();
+    }
+
+    record RecordDto(int version, Omittable<String> name, Omittable<Integer> count) {}
+
+    @Test
+    void shouldRoundTrip() {
+        Nested nested = new Nested();
+        nested.value = Omittable.of("v");
+
+        Dto dto = new Dto();
+        dto.version = 3;
+        dto.name = Omittable.of("Test");
+        dto.description = Omittable.of(null);
+        dto.nested = Omittable.of(nested);
+
+        Dto result = bitmaskMapper.readValue(bitmaskMapper.writeValueAsBytes(dto), Dto.class);
+
+        assertThat(result.version).isEqualTo(3);
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.count).isEqualTo(Omittable.absent());
+        assertThat(result.description).isEqualTo(Omittable.of(null));
+        assertThat(result.tags).isEqualTo(Omittable.absent());
+        assertThat(result.nested.orElseThrow().value).isEqualTo(Omittable.of("v"));
+    }
+
+    @Test
+    void shouldRoundTripRecords() {
+        RecordDto dto = new RecordDto(1, Omittable.absent(), Omittable.of(42));
+        RecordDto result = bitmaskMapper.readValue(bitmaskMapper.writeValueAsBytes(dto), RecordDto.class);
+
+        assertThat(result).isEqualTo(dto);
+    }
+
+    @Test
+    void shouldBeSmallerThanObjectEncoding() {
+        Dto dto = new Dto();
+        dto.count = Omittable.of(1);
+
+        assertThat(bitmaskMapper.writeValueAsBytes(dto)).hasSizeLessThan(objectMapper.writeValueAsBytes(dto).length);
+    }
+
+    @Test
+    void shouldReadObjectEncoding() {
+        Dto dto = new Dto();
+        dto.name = Omittable.of("Test");
+
+        Dto result = bitmaskMapper.readValue(objectMapper.writeValueAsBytes(dto), Dto.class);
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.count).isEqualTo(Omittable.absent());
+    }
+
+    @Test
+    void shouldNotAffectJson() {
+        ObjectMapper jsonMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS))
+            .build();
+
+        Dto dto = new Dto();
+        dto.name = Omittable.of("Test");
+
+        assertThat(jsonMapper.readTree(jsonMapper.writeValueAsString(dto))).isEqualTo(jsonMapper.readTree("{\"version\":0,\"name\":\"Test\"}"));
+    }
+
+    static class ReadOnlyDto {
+        public Omittable<String> name = Omittable.absent();
+
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        public String computed = "computed";
+
+        public Omittable<String> value = Omittable.absent();
+    }
+
+    @JsonOmittablePresence({ "first", "second" })
+    static class PresenceDto implements OmittablePresence {
+
+        private final BitSet presence = new BitSet();
+
+        public Omittable<String> first = Omittable.absent();
+        public Omittable<String> second = Omittable.absent();
+
+        @Override
+        public BitSet omittablePresence() {
+            return this.presence;
+        }
+
+    }
+
+    static class ExtendedDto {
+        public int version;
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<Integer> count = Omittable.absent();
+        public Omittable<String> description = Omittable.absent();
+        public Omittable<List<String>> tags = Omittable.absent();
+        public Omittable<Nested> nested = Omittable.absent();
+        public Omittable<String> extra = Omittable.absent();
+    }
+
+    @Test
+    void shouldRoundTripAsymmetricProperties() {
+        ReadOnlyDto dto = new ReadOnlyDto();
+        dto.name = Omittable.of("Test");
+        dto.value = Omittable.of("value");
+
+        ReadOnlyDto result = bitmaskMapper.readValue(bitmaskMapper.writeValueAsBytes(dto), ReadOnlyDto.class);
+
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.value).isEqualTo(Omittable.of("value"));
+    }
+
+    @Test
+    void shouldRoundTripPresenceTrackedBeans() {
+        PresenceDto dto = new PresenceDto();
+        dto.first = Omittable.of("ignored");
+        dto.second = Omittable.of("Test");
+        dto.omittablePresence().set(1);
+
+        PresenceDto result = bitmaskMapper.readValue(bitmaskMapper.writeValueAsBytes(dto), PresenceDto.class);
+
+        assertThat(result.first).isEqualTo(Omittable.absent());
+        assertThat(result.second).isEqualTo(Omittable.of("Test"));
+        assertThat(result.omittablePresence().get(0)).isFalse();
+        assertThat(result.omittablePresence().get(1)).isTrue();
+    }
+
+    @Test
+    void shouldRejectMismatchingProperties() {
+        Dto dto = new Dto();
+        dto.name = Omittable.of("Test");
+
+        byte[] bytes = bitmaskMapper.writeValueAsBytes(dto);
+
+        assertThatThrownBy(() -> bitmaskMapper.readValue(bytes, ExtendedDto.class))
+            .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @JsonFilter("filter")
+    static class FilteredDto {
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<String> secret = Omittable.absent();
+    }
+
+    @Test
+    void shouldApplyFilters() {
+        ObjectMapper filteringMapper = CBORMapper.builder()
+            .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS))
+            .filterProvider(new SimpleFilterProvider().addFilter("filter", SimpleBeanPropertyFilter.serializeAllExcept("secret")))
+            .build();
+
+        FilteredDto dto = new FilteredDto();
+        dto.name = Omittable.of("Test");
+        dto.secret = Omittable.of("secret");
+
+        FilteredDto result = filteringMapper.readValue(filteringMapper.writeValueAsBytes(dto), FilteredDto.class);
+
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.secret).isEqualTo(Omittable.absent());
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({ "name", "count" })
+    static class ArrayShapedDto {
+        public Omittable<String> name = Omittable.absent();
+        public Omittable<Integer> count = Omittable.absent();
+    }
+
+    @Test
+    void shouldReadArrayShapedBeansFromJson() {
+        ObjectMapper jsonMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS))
+            .build();
+
+        ArrayShapedDto result = jsonMapper.readValue("[\"Test\",42]", ArrayShapedDto.class);
+
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.count).isEqualTo(Omittable.of(42));
+    }
+
+    @Test
+    void shouldReadArrayShapedBeansFromBinaryFormats() {
+        ArrayShapedDto dto = new ArrayShapedDto();
+        dto.name = Omittable.of("Test");
+        dto.count = Omittable.of(42);
+
+        ArrayShapedDto result = bitmaskMapper.readValue(objectMapper.writeValueAsBytes(dto), ArrayShapedDto.class);
+
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.count).isEqualTo(Omittable.of(42));
+    }
+
+    @Test
+    void shouldUnwrapSingleValueArraysFromJson() {
+        ObjectMapper jsonMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS))
+            .enable(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)
+            .build();
+
+        Dto result = jsonMapper.readValue("[{\"name\":\"Test\"}]", Dto.class);
+
+        assertThat(result.name).isEqualTo(Omittable.of("Test"));
+        assertThat(result.count).isEqualTo(Omittable.absent());
+    }
+
+}
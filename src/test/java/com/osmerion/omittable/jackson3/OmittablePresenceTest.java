@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittablePresenceTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    @JsonOmittablePresence({ "first", "second", "third" })
+    static class PresenceDto implements OmittablePresence {
+
+        private final BitSet presence = new BitSet();
+
+        public String id = "id";
+        public Omittable<String> first = Omittable.absent();
+        public Omittable<String> second = Omittable.absent();
+        public Omittable<Integer> third = Omittable.absent();
+
+        @Override
+        public BitSet omittablePresence() {
+            return this.presence;
+        }
+
+    }
+
+    @Test
+    void shouldOnlySerializePresentProperties() {
+        PresenceDto dto = new PresenceDto();
+        dto.first = Omittable.of("ignored");
+        dto.second = Omittable.of(null);
+        dto.third = Omittable.of(42);
+        dto.omittablePresence().set(1);
+        dto.omittablePresence().set(2);
+
+        String json = objectMapper.writeValueAsString(dto);
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"id\":\"id\",\"second\":null,\"third\":42}"));
+    }
+
+    @Test
+    void shouldTrackPresenceDuringDeserialization() {
+        PresenceDto dto = objectMapper.readValue("{\"third\":42,\"first\":\"value\"}", PresenceDto.class);
+
+        assertThat(dto.first).isEqualTo(Omittable.of("value"));
+        assertThat(dto.second).isEqualTo(Omittable.absent());
+        assertThat(dto.third).isEqualTo(Omittable.of(42));
+        assertThat(dto.omittablePresence().get(0)).isTrue();
+        assertThat(dto.omittablePresence().get(1)).isFalse();
+        assertThat(dto.omittablePresence().get(2)).isTrue();
+
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(dto))).isEqualTo(objectMapper.readTree("{\"id\":\"id\",\"first\":\"value\",\"third\":42}"));
+    }
+
+    @JsonFilter("filter")
+    @JsonOmittablePresence({ "first", "second" })
+    static class FilteredPresenceDto implements OmittablePresence {
+
+        private final BitSet presence = new BitSet();
+
+        public Omittable<String> first = Omittable.absent();
+        public Omittable<String> second = Omittable.absent();
+
+        @Override
+        public BitSet omittablePresence() {
+            return this.presence;
+        }
+
+    }
+
+    @Test
+    void shouldApplyFiltersToPresenceTrackedBeans() {
+        ObjectMapper filteringMapper = JsonMapper.builder()
+            .addModule(new OmittableModule())
+            .filterProvider(new SimpleFilterProvider().addFilter("filter", SimpleBeanPropertyFilter.serializeAllExcept("second")))
+            .build();
+
+        FilteredPresenceDto dto = new FilteredPresenceDto();
+        dto.first = Omittable.of("first");
+        dto.second = Omittable.of("second");
+        dto.omittablePresence().set(0);
+        dto.omittablePresence().set(1);
+
+        assertThat(filteringMapper.writeValueAsString(dto)).isEqualTo("{\"first\":\"first\"}");
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class OmittableProjectorTest {
+
+    private static final ObjectMapper objectMapper = JsonMapper.builder()
+        .addModule(new OmittableModule())
+        .build();
+
+    private static final OmittableProjector projector = new OmittableProjector(objectMapper, 2);
+
+    static class Address {
+        public String street = "Main Street";
+        public String city = "Springfield";
+    }
+
+    static class User {
+        public String name = "John Doe";
+        public String email = "john@example.com";
+        public Address address = new Address();
+        public Omittable<String> nickname = Omittable.absent();
+        public Omittable<Address> secondaryAddress = Omittable.of(new Address());
+    }
+
+    @Test
+    void shouldParseSelections() {
+        assertThat(OmittableFieldSelection.parse("name, address.city")).isEqualTo(OmittableFieldSelection.parse("address.city,name"));
+        assertThat(OmittableFieldSelection.parse("address.city,address")).isEqualTo(OmittableFieldSelection.parse("address"));
+        assertThat(OmittableFieldSelection.parse("address").get("address")).isSameAs(OmittableFieldSelection.all());
+        assertThat(OmittableFieldSelection.parse("address").get("name")).isNull();
+
+        assertThatThrownBy(() -> OmittableFieldSelection.parse("name,,email")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OmittableFieldSelection.parse("address.")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldWriteSelectedProperties() {
+        String json = projector.writeValueAsString(new User(), OmittableFieldSelection.parse("name,address.city,nickname"));
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree("{\"name\":\"John Doe\",\"address\":{\"city\":\"Springfield\"}}"));
+    }
+
+    @Test
+    void shouldProjectOmittableContents() {
+        User user = new User();
+        user.nickname = Omittable.of(null);
+
+        String json = projector.writeValueAsString(user, OmittableFieldSelection.parse("nickname,secondaryAddress.street"));
+        assertThat(json).isEqualTo("{\"nickname\":null,\"secondaryAddress\":{\"street\":\"Main Street\"}}");
+
+        user.secondaryAddress = Omittable.absent();
+        json = projector.writeValueAsString(user, OmittableFieldSelection.parse("secondaryAddress.street"));
+        assertThat(json).isEqualTo("{}");
+    }
+
+    @Test
+    void shouldProjectCollectionElements() {
+        String json = projector.writeValueAsString(List.of(new User(), new User()), OmittableFieldSelection.parse("email"));
+        assertThat(json).isEqualTo("[{\"email\":\"john@example.com\"},{\"email\":\"john@example.com\"}]");
+    }
+
+    @Test
+    void shouldEvictCachedProjections() {
+        for (String fields : List.of("name", "email", "address", "name")) {
+            String json = projector.writeValueAsString(new User(), OmittableFieldSelection.parse(fields));
+            assertThat(json).startsWith("{\"" + fields + "\":");
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    static class Typed {
+        public String name = "name";
+        public String other = "other";
+    }
+
+    @Test
+    void shouldWriteTypeIds() {
+        String json = projector.writeValueAsString(new Typed(), OmittableFieldSelection.parse("name"));
+        assertThat(json).isEqualTo("{\"@type\":\"OmittableProjectorTest$Typed\",\"name\":\"name\"}");
+    }
+
+    static class NonNullAddress {
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public Address address = null;
+    }
+
+    @Test
+    void shouldHonorNullSuppressionOfNestedProperties() {
+        String json = projector.writeValueAsString(new NonNullAddress(), OmittableFieldSelection.parse("address.city"));
+        assertThat(json).isEqualTo("{}");
+    }
+
+    @JsonFilter("filter")
+    static class Filtered {
+        public String name = "name";
+        public String other = "other";
+    }
+
+    @Test
+    void shouldWriteFilteredBeansEntirely() {
+        OmittableProjector filteringProjector = new OmittableProjector(
+            JsonMapper.builder()
+                .addModule(new OmittableModule())
+                .filterProvider(new SimpleFilterProvider().addFilter("filter", SimpleBeanPropertyFilter.serializeAllExcept("other")))
+                .build()
+        );
+
+        String json = filteringProjector.writeValueAsString(new Filtered(), OmittableFieldSelection.parse("other"));
+        assertThat(json).isEqualTo("{\"name\":\"name\"}");
+    }
+
+    static class PublicView {}
+
+    static class ViewUser {
+        public String name = "John Doe";
+
+        @JsonView(PublicView.class)
+        public Omittable<String> nickname = Omittable.of("Johnny");
+    }
+
+    @Test
+    void shouldProjectBeansWithViews() {
+        String json = projector.writeValueAsString(new ViewUser(), OmittableFieldSelection.parse("nickname"));
+        assertThat(json).isEqualTo("{\"nickname\":\"Johnny\"}");
+    }
+
+    @Test
+    void shouldProjectBeansWithPresenceBitmasks() {
+        OmittableProjector bitmaskProjector = new OmittableProjector(
+            JsonMapper.builder()
+                .addModule(new OmittableModule().enable(OmittableModule.Feature.USE_PRESENCE_BITMASK_FOR_BINARY_FORMATS))
+                .build()
+        );
+
+        String json = bitmaskProjector.writeValueAsString(new User(), OmittableFieldSelection.parse("address.city"));
+        assertThat(json).isEqualTo("{\"address\":{\"city\":\"Springfield\"}}");
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittableWarmupTest {
+
+    static class WarmDto {
+        public Omittable<String> name = Omittable.absent();
+    }
+
+    static class IndexedDto {
+        public Omittable<String> name = Omittable.absent();
+    }
+
+    @Test
+    void shouldConstructSerializersEagerly() {
+        CountingOmittableMetrics metrics = new CountingOmittableMetrics();
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().withMetrics(metrics))
+            .build();
+
+        OmittableWarmup.warmUp(objectMapper, List.of(WarmDto.class));
+        assertThat(metrics.getSerializerConstructions(WarmDto.class)).isEqualTo(1);
+
+        WarmDto dto = new WarmDto();
+        dto.name = Omittable.of("Test");
+
+        assertThat(objectMapper.writeValueAsString(dto)).isEqualTo("{\"name\":\"Test\"}");
+        assertThat(objectMapper.readValue("{}", WarmDto.class).name).isEqualTo(Omittable.absent());
+        assertThat(metrics.getSerializerConstructions(WarmDto.class)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldConstructSerializersWithoutEagerFetching() {
+        CountingOmittableMetrics metrics = new CountingOmittableMetrics();
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().withMetrics(metrics))
+            .disable(SerializationFeature.EAGER_SERIALIZER_FETCH)
+            .disable(DeserializationFeature.EAGER_DESERIALIZER_FETCH)
+            .build();
+
+        OmittableWarmup.warmUp(objectMapper, List.of(WarmDto.class));
+        assertThat(metrics.getSerializerConstructions(WarmDto.class)).isEqualTo(1);
+
+        objectMapper.writeValueAsString(new WarmDto());
+        assertThat(metrics.getSerializerConstructions(WarmDto.class)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWarmUpTypesFromIndex() {
+        CountingOmittableMetrics metrics = new CountingOmittableMetrics();
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new OmittableModule().withMetrics(metrics))
+            .build();
+
+        int count = OmittableWarmup.warmUpFromIndex(objectMapper, OmittableWarmupTest.class.getClassLoader());
+
+        assertThat(count).isEqualTo(1);
+        assertThat(metrics.getSerializerConstructions(IndexedDto.class)).isEqualTo(1);
+    }
+
+}
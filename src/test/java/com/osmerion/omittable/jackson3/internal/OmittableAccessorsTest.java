@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.introspect.AnnotatedMethod;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittableAccessorsTest {
+
+    public static class Dto {
+
+        private Omittable<String> name = Omittable.of("Test");
+
+        public Omittable<String> getName() {
+            return this.name;
+        }
+
+    }
+
+    @Test
+    void shouldGenerateAccessorsForGetters() throws NoSuchMethodException {
+        AnnotatedMethod getter = new AnnotatedMethod(null, Dto.class.getMethod("getName"), null, null);
+
+        Function<Object, Object> accessor = OmittableAccessors.tryGenerate(getter, null);
+        assertThat(accessor).isNotNull();
+        assertThat(accessor.apply(new Dto())).isEqualTo(Omittable.of("Test"));
+    }
+
+}
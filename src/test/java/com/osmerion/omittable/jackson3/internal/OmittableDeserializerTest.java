@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2026 Leon Linhart
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.osmerion.omittable.jackson3.internal;
+
+import com.osmerion.omittable.Omittable;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class OmittableDeserializerTest {
+
+    private static final int ITERATIONS = 10_000;
+
+    /*
+     * A generous upper bound for allocations caused by the measurement itself. If the cached paths allocated, the
+     * iterations would allocate at least ITERATIONS * 16 bytes.
+     */
+    private static final long ALLOCATION_TOLERANCE = 1024;
+
+    enum Color { RED, GREEN, BLUE }
+
+    private static OmittableDeserializer deserializerFor(TypeReference<?> typeRef) {
+        JavaType type = JsonMapper.builder().build().getTypeFactory().constructType(typeRef);
+        return new OmittableDeserializer(type, null, null, null, null);
+    }
+
+    private static long measureAllocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // Warm-up to make sure that everything is initialized
+        action.run();
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) action.run();
+        long after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return after - before;
+    }
+
+    @Test
+    void shouldReuseWrappersForCommonValues() {
+        OmittableDeserializer deserializer = deserializerFor(new TypeReference<Omittable<Object>>() {});
+
+        assertThat(deserializer.referenceValue(null)).isSameAs(deserializer.referenceValue(null));
+        assertThat(deserializer.referenceValue(Boolean.TRUE)).isSameAs(deserializer.referenceValue(Boolean.TRUE));
+        assertThat(deserializer.referenceValue(Boolean.FALSE)).isSameAs(deserializer.referenceValue(Boolean.FALSE));
+        assertThat(deserializer.referenceValue(42)).isSameAs(deserializer.referenceValue(42));
+        assertThat(deserializer.referenceValue(42L)).isSameAs(deserializer.referenceValue(42L));
+        assertThat(deserializer.referenceValue("")).isSameAs(deserializer.referenceValue(""));
+
+        assertThat(deserializer.referenceValue(42)).isEqualTo(Omittable.of(42));
+        assertThat(deserializer.referenceValue(42L)).isEqualTo(Omittable.of(42L));
+        assertThat(deserializer.referenceValue(null)).isEqualTo(Omittable.of(null));
+    }
+
+    @Test
+    void shouldReuseWrappersForEnumConstants() {
+        OmittableDeserializer deserializer = deserializerFor(new TypeReference<Omittable<Color>>() {});
+
+        for (Color color : Color.values()) {
+            assertThat(deserializer.referenceValue(color)).isSameAs(deserializer.referenceValue(color));
+            assertThat(deserializer.referenceValue(color)).isEqualTo(Omittable.of(color));
+        }
+    }
+
+    @Test
+    void shouldNotAllocateForCachedValues() {
+        OmittableDeserializer deserializer = deserializerFor(new TypeReference<Omittable<Object>>() {});
+        OmittableDeserializer enumDeserializer = deserializerFor(new TypeReference<Omittable<Color>>() {});
+
+        Integer smallInt = 7;
+        Long smallLong = 7L;
+
+        assertThat(measureAllocatedBytes(() -> deserializer.referenceValue(null))).isLessThan(ALLOCATION_TOLERANCE);
+        assertThat(measureAllocatedBytes(() -> deserializer.referenceValue(Boolean.TRUE))).isLessThan(ALLOCATION_TOLERANCE);
+        assertThat(measureAllocatedBytes(() -> deserializer.referenceValue(smallInt))).isLessThan(ALLOCATION_TOLERANCE);
+        assertThat(measureAllocatedBytes(() -> deserializer.referenceValue(smallLong))).isLessThan(ALLOCATION_TOLERANCE);
+        assertThat(measureAllocatedBytes(() -> deserializer.referenceValue(""))).isLessThan(ALLOCATION_TOLERANCE);
+        assertThat(measureAllocatedBytes(() -> enumDeserializer.referenceValue(Color.GREEN))).isLessThan(ALLOCATION_TOLERANCE);
+    }
+
+}